@@ -1,9 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.container.adts;
 
-import com.sedmelluq.discord.lavaplayer.tools.io.BitBufferReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
 
 /**
  * Finds and reads ADTS packet headers from an input stream.
@@ -21,8 +19,6 @@ public class AdtsStreamReader {
 
   private final InputStream inputStream;
   private final byte[] scanBuffer;
-  private final ByteBuffer scanByteBuffer;
-  private final BitBufferReader scanBufferReader;
   private AdtsPacketHeader currentPacket;
 
   /**
@@ -31,8 +27,6 @@ public class AdtsStreamReader {
   public AdtsStreamReader(InputStream inputStream) {
     this.inputStream = inputStream;
     this.scanBuffer = new byte[32];
-    this.scanByteBuffer = ByteBuffer.wrap(scanBuffer);
-    this.scanBufferReader = new BitBufferReader(scanByteBuffer);
   }
 
   /**
@@ -70,9 +64,21 @@ public class AdtsStreamReader {
   }
 
   private AdtsPacketHeader scanForPacketHeader(int maximumDistance) throws IOException {
-    int bufferPosition = 0;
+    // In a well-formed stream the next header starts right where the previous packet ended, so read the whole header
+    // at once first and only fall back to scanning byte by byte if it is not there.
+    int bufferPosition = readHeaderBytes(Math.min(HEADER_BASE_SIZE, maximumDistance));
 
-    for (int i = 0; i < maximumDistance; i++) {
+    if (bufferPosition == -1) {
+      return EOF_PACKET;
+    } else if (bufferPosition == HEADER_BASE_SIZE) {
+      AdtsPacketHeader header = readHeaderFromBufferTail(bufferPosition);
+
+      if (header != null) {
+        return header;
+      }
+    }
+
+    for (int i = bufferPosition; i < maximumDistance; i++) {
       int nextByte = inputStream.read();
 
       if (nextByte == -1) {
@@ -98,11 +104,24 @@ public class AdtsStreamReader {
     return null;
   }
 
-  private AdtsPacketHeader readHeaderFromBufferTail(int position) throws IOException {
-    scanByteBuffer.position(position - HEADER_BASE_SIZE);
+  private int readHeaderBytes(int length) throws IOException {
+    int position = 0;
+
+    while (position < length) {
+      int chunk = inputStream.read(scanBuffer, position, length - position);
+
+      if (chunk == -1) {
+        return -1;
+      }
 
-    AdtsPacketHeader header = readHeader(scanBufferReader);
-    scanBufferReader.readRemainingBits();
+      position += chunk;
+    }
+
+    return position;
+  }
+
+  private AdtsPacketHeader readHeaderFromBufferTail(int position) throws IOException {
+    AdtsPacketHeader header = readHeader(scanBuffer, position - HEADER_BASE_SIZE);
 
     if (header == null) {
       return null;
@@ -124,37 +143,37 @@ public class AdtsStreamReader {
     }
   }
 
-  private static AdtsPacketHeader readHeader(BitBufferReader reader) {
-    if ((reader.asLong(15) & 0x7FFB) != 0x7FF8) {
+  private static AdtsPacketHeader readHeader(byte[] buffer, int offset) {
+    int first = buffer[offset] & 0xFF;
+    int second = buffer[offset + 1] & 0xFF;
+
+    if (first != 0xFF || (second & 0xF6) != 0xF0) {
       // Possible reasons:
       // 1) Syncword is not present, cannot be an ADTS header
       // 2) Layer value is not 0, which must always be 0 for ADTS
       return null;
     }
 
-    boolean isProtectionAbsent = reader.asLong(1) == 1;
-    int profile = reader.asInteger(2);
-    int sampleRate = sampleRateMapping[reader.asInteger(4)];
+    boolean isProtectionAbsent = (second & 0x01) == 1;
 
-    // Private bit
-    reader.asLong(1);
+    int third = buffer[offset + 2] & 0xFF;
+    int fourth = buffer[offset + 3] & 0xFF;
 
-    int channels = reader.asInteger(3);
+    int profile = third >> 6;
+    int sampleRate = sampleRateMapping[(third >> 2) & 0x0F];
+    // Private bit skipped
+    int channels = ((third & 0x01) << 2) | (fourth >> 6);
 
     if (sampleRate == INVALID_VALUE || channels == 0) {
       return null;
     }
 
-    // 4 boring bits
-    reader.asLong(4);
-
-    int frameLength = reader.asInteger(13);
+    // 4 boring bits skipped
+    int frameLength = ((fourth & 0x03) << 11) | ((buffer[offset + 4] & 0xFF) << 3) | ((buffer[offset + 5] & 0xFF) >> 5);
     int payloadLength = frameLength - 7 - (isProtectionAbsent ? 0 : 2);
 
-    // More boring bits
-    reader.asLong(11);
-
-    if (reader.asLong(2) != 0) {
+    // More boring bits skipped
+    if ((buffer[offset + 6] & 0x03) != 0) {
       // Not handling multiple frames per packet
       return null;
     }
@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.container.common;
 
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline;
 import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory;
+import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
 import com.sedmelluq.discord.lavaplayer.filter.PcmFormat;
 import com.sedmelluq.discord.lavaplayer.filter.volume.AudioFrameVolumeChanger;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
@@ -18,7 +19,8 @@ import org.slf4j.LoggerFactory;
 /**
  * A router for opus packets to the output specified by an audio processing context. It automatically detects if the
  * packets can go clean through to the output without any decoding and encoding steps on each packet and rebuilds the
- * pipeline of the output if necessary.
+ * pipeline of the output if necessary. Filters which do not change the audio (like a flat equalizer or a factory which
+ * builds an empty chain) do not count as a reason to decode, the switch between the modes happens between packets.
  */
 public class OpusPacketRouter {
   private static final Logger log = LoggerFactory.getLogger(OpusPacketRouter.class);
@@ -38,6 +40,7 @@ public class OpusPacketRouter {
   private ShortBuffer frameBuffer;
   private AudioDataFormat inputFormat;
   private int lastFrameSize;
+  private PcmFilterFactory identityFactory;
 
   /**
    * @param context Configuration and output information for processing
@@ -170,7 +173,15 @@ public class OpusPacketRouter {
   }
 
   private void checkDecoderNecessity() {
-    if (AudioPipelineFactory.isProcessingRequired(context, inputFormat)) {
+    if (downstream != null) {
+      PcmFilterFactory emptyChainFactory = downstream.getEmptyChainFactory();
+
+      if (emptyChainFactory != null) {
+        identityFactory = emptyChainFactory;
+      }
+    }
+
+    if (AudioPipelineFactory.isProcessingRequired(context, inputFormat, identityFactory)) {
       if (opusDecoder == null) {
         log.debug("Enabling reencode mode on opus track.");
 
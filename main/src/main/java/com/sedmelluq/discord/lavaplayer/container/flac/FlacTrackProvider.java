@@ -70,7 +70,7 @@ public class FlacTrackProvider {
     try {
       FlacSeekPoint seekPoint = findSeekPointForTime(timecode);
       inputStream.seek(info.firstFramePosition + seekPoint.byteOffset);
-      downstream.seekPerformed(timecode, seekPoint.sampleIndex * 1000 / info.stream.sampleRate);
+      downstream.seekPerformedAtSample(timecode, seekPoint.sampleIndex);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
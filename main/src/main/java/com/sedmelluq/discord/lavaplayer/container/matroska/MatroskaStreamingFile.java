@@ -1,12 +1,17 @@
 package com.sedmelluq.discord.lavaplayer.container.matroska;
 
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaBlock;
+import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaClusterIndex;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaCuePoint;
+import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaEbmlReader;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaElement;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaElementType;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaFileReader;
 import com.sedmelluq.discord.lavaplayer.container.matroska.format.MatroskaFileTrack;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.SeekableInputStream;
+import java.io.DataInput;
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -18,7 +23,11 @@ import java.util.List;
  * absolutely necessary, as the stream may be a network connection, in which case each seek may require a new connection.
  */
 public class MatroskaStreamingFile {
+  private static final int CLUSTER_ID_BYTES = ByteBuffer.wrap(MatroskaElementType.Cluster.bytes).getInt();
+  private static final long MINIMUM_BISECT_DISTANCE = 64L * 1024L;
+
   private final MatroskaFileReader reader;
+  private final MatroskaClusterIndex clusterIndex = new MatroskaClusterIndex();
 
   private long timecodeScale = 1000000;
   private double duration;
@@ -260,8 +269,103 @@ public class MatroskaStreamingFile {
       }
     }
 
-    // If there were no cues available, just seek to the beginning and discard until the right timecode
-    reader.seek(firstClusterElement.getPosition());
+    // If there were no cues available, seek to the closest known cluster and discard until the right timecode
+    seekUsingClusterIndex(timecode);
+  }
+
+  private void seekUsingClusterIndex(long timecode) throws IOException {
+    int lowIndex = clusterIndex.lastIndexNotAfter(timecode);
+    long lowPosition = lowIndex >= 0 ? clusterIndex.getPosition(lowIndex) : firstClusterElement.getPosition();
+    long highPosition = lowIndex + 1 < clusterIndex.size() ? clusterIndex.getPosition(lowIndex + 1) : getSegmentEndPosition();
+
+    if (reader.canSeekHard() && highPosition != Units.CONTENT_LENGTH_UNKNOWN) {
+      // Reading through anything shorter than the skip distance is cheaper than doing another seek
+      long minimumDistance = Math.max(reader.getMaxSkipDistance(), MINIMUM_BISECT_DISTANCE);
+
+      while (highPosition - lowPosition > minimumDistance) {
+        long middlePosition = lowPosition + (highPosition - lowPosition) / 2;
+        int probedIndex = probeClusterInRange(middlePosition, highPosition);
+
+        if (probedIndex >= 0 && clusterIndex.getTimecode(probedIndex) <= timecode) {
+          lowPosition = clusterIndex.getPosition(probedIndex);
+        } else {
+          highPosition = middlePosition;
+        }
+      }
+    }
+
+    reader.seek(lowPosition);
+  }
+
+  private long getSegmentEndPosition() {
+    long segmentEnd = segmentElement.getDataPosition() + segmentElement.getDataSize();
+
+    // Segment size may be unknown (all ones) for live recordings, in which case it does not fit into the element
+    if (segmentElement.getDataSize() < 0 || segmentEnd <= firstClusterElement.getPosition()) {
+      return reader.getContentLength();
+    }
+
+    return Math.min(segmentEnd, reader.getContentLength());
+  }
+
+  /**
+   * Scans for the first cluster which starts within the specified range and adds it to the cluster index.
+   *
+   * @param startPosition Position to start scanning from
+   * @param endPosition Position before which the cluster must start
+   * @return Index of the found cluster in the cluster index, -1 if no cluster starts in this range
+   * @throws IOException On read error
+   */
+  private int probeClusterInRange(long startPosition, long endPosition) throws IOException {
+    reader.seek(startPosition);
+
+    DataInput input = reader.getDataInput();
+    long position = startPosition;
+    int window = 0;
+
+    try {
+      while (position < endPosition + 3) {
+        window = (window << 8) | (input.readByte() & 0xFF);
+        position++;
+
+        if (window == CLUSTER_ID_BYTES && position - startPosition >= 4) {
+          long timecode = readProbedClusterTimecode(input);
+
+          if (timecode >= 0) {
+            return clusterIndex.add(timecode, position - 4);
+          }
+
+          position = reader.getPosition();
+          window = 0;
+        }
+      }
+    } catch (EOFException e) {
+      // Reached the end of the file, no more clusters
+    }
+
+    return -1;
+  }
+
+  private long readProbedClusterTimecode(DataInput input) throws IOException {
+    try {
+      // Cluster data size is not needed, the timecode is always the first child of a cluster
+      MatroskaEbmlReader.readEbmlInteger(input, null);
+
+      if (MatroskaEbmlReader.readEbmlInteger(input, null) != MatroskaElementType.Timecode.id) {
+        return -1;
+      }
+
+      long timecodeSize = MatroskaEbmlReader.readEbmlInteger(input, null);
+
+      if (timecodeSize < 1 || timecodeSize > 8) {
+        return -1;
+      }
+
+      return MatroskaEbmlReader.readFixedSizeEbmlInteger(input, (int) timecodeSize, null);
+    } catch (IllegalStateException e) {
+      // Not valid EBML, the cluster ID bytes matched by coincidence
+      return -1;
+    }
   }
 
   private MatroskaCuePoint lastCueNotAfterTimecode(long timecode) {
@@ -316,6 +420,10 @@ public class MatroskaStreamingFile {
     while ((child = reader.readNextElement(clusterElement)) != null) {
       if (child.is(MatroskaElementType.Timecode)) {
         clusterTimecode = reader.asLong(child);
+
+        if (cuePoints == null) {
+          clusterIndex.add(clusterTimecode, clusterElement.getPosition());
+        }
       } else if (child.is(MatroskaElementType.SimpleBlock)) {
         parseClusterSimpleBlock(child, consumer, clusterTimecode);
       } else if (child.is(MatroskaElementType.BlockGroup)) {
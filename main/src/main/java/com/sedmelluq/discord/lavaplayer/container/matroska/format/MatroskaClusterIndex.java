@@ -0,0 +1,98 @@
+package com.sedmelluq.discord.lavaplayer.container.matroska.format;
+
+import java.util.Arrays;
+
+/**
+ * Index of cluster timecodes and positions which have been seen in a file. Used for seeking in files which do not have
+ * cues. Entries are kept sorted by position, which for a valid file also means they are sorted by timecode.
+ */
+public class MatroskaClusterIndex {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long[] timecodes;
+  private long[] positions;
+  private int size;
+
+  public MatroskaClusterIndex() {
+    this.timecodes = new long[INITIAL_CAPACITY];
+    this.positions = new long[INITIAL_CAPACITY];
+  }
+
+  /**
+   * @return Number of clusters in the index
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param index Index of the entry
+   * @return Timecode of the cluster at the specified index
+   */
+  public long getTimecode(int index) {
+    return timecodes[index];
+  }
+
+  /**
+   * @param index Index of the entry
+   * @return Absolute position of the cluster at the specified index
+   */
+  public long getPosition(int index) {
+    return positions[index];
+  }
+
+  /**
+   * Adds a cluster to the index. Keeps the existing entry if a cluster at this position is already indexed.
+   *
+   * @param timecode Timecode of the cluster using the file timescale
+   * @param position Absolute position of the cluster element
+   * @return Index of the entry for this cluster
+   */
+  public int add(long timecode, long position) {
+    int insertIndex;
+
+    if (size == 0 || positions[size - 1] < position) {
+      insertIndex = size;
+    } else {
+      int searchIndex = Arrays.binarySearch(positions, 0, size, position);
+
+      if (searchIndex >= 0) {
+        return searchIndex;
+      }
+
+      insertIndex = -searchIndex - 1;
+    }
+
+    if (size == positions.length) {
+      timecodes = Arrays.copyOf(timecodes, size * 2);
+      positions = Arrays.copyOf(positions, size * 2);
+    }
+
+    System.arraycopy(timecodes, insertIndex, timecodes, insertIndex + 1, size - insertIndex);
+    System.arraycopy(positions, insertIndex, positions, insertIndex + 1, size - insertIndex);
+
+    timecodes[insertIndex] = timecode;
+    positions[insertIndex] = position;
+    size++;
+    return insertIndex;
+  }
+
+  /**
+   * @param timecode Timecode using the file timescale
+   * @return Index of the last cluster which starts at or before the specified timecode, -1 if there is none.
+   */
+  public int lastIndexNotAfter(long timecode) {
+    int searchIndex = Arrays.binarySearch(timecodes, 0, size, timecode);
+
+    if (searchIndex >= 0) {
+      // Multiple clusters with the same timecode are possible, pick the last one
+      while (searchIndex + 1 < size && timecodes[searchIndex + 1] == timecode) {
+        searchIndex++;
+      }
+
+      return searchIndex;
+    } else {
+      return -searchIndex - 2;
+    }
+  }
+}
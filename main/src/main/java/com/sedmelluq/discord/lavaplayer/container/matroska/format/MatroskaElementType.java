@@ -1,8 +1,8 @@
 package com.sedmelluq.discord.lavaplayer.container.matroska.format;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * Registry of all required element types. This is not the complete set.
@@ -47,7 +47,8 @@ public enum MatroskaElementType {
   CueClusterPosition(DataType.UNSIGNED_INTEGER, new int[] { 0xF1 }),
   Unknown(DataType.BINARY, new int[] { });
 
-  private static Map<Long, MatroskaElementType> mapping;
+  private static final long[] sortedIds;
+  private static final MatroskaElementType[] sortedTypes;
 
   /**
    * The ID as EBML code bytes.
@@ -63,15 +64,19 @@ public enum MatroskaElementType {
   public final DataType dataType;
 
   static {
-    Map<Long, MatroskaElementType> codeMapping = new HashMap<>();
+    MatroskaElementType[] types = Arrays.stream(MatroskaElementType.class.getEnumConstants())
+        .filter(code -> code != Unknown)
+        .sorted(Comparator.comparingLong(code -> code.id))
+        .toArray(MatroskaElementType[]::new);
 
-    for (MatroskaElementType code : MatroskaElementType.class.getEnumConstants()) {
-      if (code != Unknown) {
-        codeMapping.put(code.id, code);
-      }
+    long[] ids = new long[types.length];
+
+    for (int i = 0; i < types.length; i++) {
+      ids[i] = types[i].id;
     }
 
-    mapping = codeMapping;
+    sortedIds = ids;
+    sortedTypes = types;
   }
 
   MatroskaElementType(DataType dataType, int[] integers) {
@@ -129,14 +134,14 @@ public enum MatroskaElementType {
   }
 
   /**
+   * Looks up the element type by a binary search over primitive IDs, so that it can be called for every element in a
+   * stream without boxing the ID.
+   *
    * @param id Code of the element type to find
    * @return The element type, Unknown if not present.
    */
   public static MatroskaElementType find(long id) {
-    MatroskaElementType code = mapping.get(id);
-    if (code == null) {
-      code = Unknown;
-    }
-    return code;
+    int index = Arrays.binarySearch(sortedIds, id);
+    return index >= 0 ? sortedTypes[index] : Unknown;
   }
 }
@@ -208,6 +208,28 @@ public class MatroskaFileReader {
     inputStream.seek(position);
   }
 
+  /**
+   * @return Length of the underlying stream, {@link com.sedmelluq.discord.lavaplayer.tools.Units#CONTENT_LENGTH_UNKNOWN}
+   *         if not known.
+   */
+  public long getContentLength() {
+    return inputStream.getContentLength();
+  }
+
+  /**
+   * @return <code>true</code> if seeking to an arbitrary position is possible without reading through the stream.
+   */
+  public boolean canSeekHard() {
+    return inputStream.canSeekHard();
+  }
+
+  /**
+   * @return Maximum distance that the underlying stream skips by reading instead of doing a direct seek.
+   */
+  public long getMaxSkipDistance() {
+    return inputStream.getMaxSkipDistance();
+  }
+
   public DataInput getDataInput() {
     return dataInput;
   }
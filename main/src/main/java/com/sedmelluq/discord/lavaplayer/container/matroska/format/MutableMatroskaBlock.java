@@ -95,8 +95,6 @@ public class MutableMatroskaBlock implements MatroskaBlock {
   }
 
   private void parseLacing(MatroskaFileReader reader, MatroskaElement element, int laceType) throws IOException {
-    setFrameCount(frameCount);
-
     switch (laceType) {
       case 1:
         parseXiphLaceSizes(reader, element);
@@ -124,10 +122,12 @@ public class MutableMatroskaBlock implements MatroskaBlock {
 
     for (int i = 0; i < frameCount - 1; i++) {
       int value = 0;
+      int laceByte;
 
       do {
-        value += input.readByte() & 0xFF;
-      } while (value == 255);
+        laceByte = input.readByte() & 0xFF;
+        value += laceByte;
+      } while (laceByte == 255);
 
       frameSizes[i] = value;
       sizeTotal += value;
@@ -146,8 +146,7 @@ public class Mp3TrackProvider implements AudioTrackInfoProvider {
   public void seekToTimecode(long timecode) {
     try {
       long frameIndex = seeker.seekAndGetFrameIndex(timecode, inputStream);
-      long actualTimecode = frameIndex * MPEG1_SAMPLES_PER_FRAME * 1000 / sampleRate;
-      downstream.seekPerformed(timecode, actualTimecode);
+      downstream.seekPerformedAtSample(timecode, frameIndex * MPEG1_SAMPLES_PER_FRAME);
 
       frameReader.nextFrame();
     } catch (IOException e) {
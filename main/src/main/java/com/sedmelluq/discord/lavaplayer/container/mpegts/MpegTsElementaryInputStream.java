@@ -137,7 +137,7 @@ public class MpegTsElementaryInputStream extends InputStream {
     packetBuffer.clear();
     bufferReader.readRemainingBits();
 
-    int identifier = verifyPacket(bufferReader, packetBuffer);
+    int identifier = verifyPacket(packet, packetBuffer);
     if (identifier == -1) {
       return false;
     }
@@ -300,30 +300,26 @@ public class MpegTsElementaryInputStream extends InputStream {
     }
   }
 
-  private static int verifyPacket(BitBufferReader reader, ByteBuffer rawBuffer) {
-    if (reader.asLong(8) != 'G') {
+  private static int verifyPacket(byte[] packet, ByteBuffer packetBuffer) {
+    // The header is byte aligned, so it is read from the array directly as this is done for every single packet.
+    if (packet[0] != 'G') {
       return -1;
     }
 
-    // Not important for this case
-    reader.asLong(3);
-
-    int identifier = reader.asInteger(13);
-    long scrambling = reader.asLong(2);
-
-    // Adaptation
-    long adaptation = reader.asLong(2);
+    int identifier = ((packet[1] & 0x1F) << 8) | (packet[2] & 0xFF);
+    int flags = packet[3] & 0xFF;
+    int scrambling = flags >> 6;
+    int adaptation = (flags >> 4) & 0x03;
 
     if (scrambling != 0) {
       return -1;
     }
 
-    // Continuity counter
-    reader.asLong(4);
-
     if (adaptation == 2 || adaptation == 3) {
-      int adaptationSize = reader.asInteger(8);
-      rawBuffer.position(rawBuffer.position() + adaptationSize);
+      int adaptationSize = packet[4] & 0xFF;
+      packetBuffer.position(5 + adaptationSize);
+    } else {
+      packetBuffer.position(4);
     }
 
     return identifier;
@@ -55,7 +55,7 @@ public class PesPacketInputStream extends InputStream {
       return false;
     }
 
-    int length = lengthBuffer.getShort(0);
+    int length = lengthBuffer.getShort(0) & 0xFFFF;
     if (inputStream.skip(2) != 2) {
       return false;
     }
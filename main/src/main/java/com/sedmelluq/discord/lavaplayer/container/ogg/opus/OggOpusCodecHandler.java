@@ -44,7 +44,7 @@ public class OggOpusCodecHandler implements OggCodecHandler {
     loadCommentsHeader(stream, broker, true);
 
     int channelCount = firstPacket.get(9) & 0xFF;
-    return new Blueprint(broker, channelCount, getSampleRate(firstPacket));
+    return new Blueprint(channelCount, getSampleRate(firstPacket));
   }
 
   @Override
@@ -101,20 +101,17 @@ public class OggOpusCodecHandler implements OggCodecHandler {
   }
 
   private static class Blueprint implements OggTrackBlueprint {
-    private final DirectBufferStreamBroker broker;
     private final int channelCount;
     private final int sampleRate;
 
-    private Blueprint(DirectBufferStreamBroker broker, int channelCount, int sampleRate) {
-      this.broker = broker;
+    private Blueprint(int channelCount, int sampleRate) {
       this.channelCount = channelCount;
       this.sampleRate = sampleRate;
     }
 
     @Override
     public OggTrackHandler loadTrackHandler(OggPacketInputStream stream) {
-      broker.clear();
-      return new OggOpusTrackHandler(stream, broker, channelCount, sampleRate);
+      return new OggOpusTrackHandler(stream, channelCount, sampleRate);
     }
   }
 }
@@ -3,34 +3,34 @@ package com.sedmelluq.discord.lavaplayer.container.ogg.opus;
 import com.sedmelluq.discord.lavaplayer.container.common.OpusPacketRouter;
 import com.sedmelluq.discord.lavaplayer.container.ogg.OggPacketInputStream;
 import com.sedmelluq.discord.lavaplayer.container.ogg.OggTrackHandler;
-import com.sedmelluq.discord.lavaplayer.tools.io.DirectBufferStreamBroker;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
 /**
- * OGG stream handler for Opus codec.
+ * OGG stream handler for Opus codec. Packets are read directly into the backing array of a heap buffer, so in
+ * passthrough mode the packet is copied only once more, into the frame buffer. The packet router copies it into a
+ * direct buffer itself when it needs to decode it.
  */
 public class OggOpusTrackHandler implements OggTrackHandler {
+  private static final int INITIAL_PACKET_BUFFER_SIZE = 2048;
+
   private final OggPacketInputStream packetInputStream;
-  private final DirectBufferStreamBroker broker;
   private final int channelCount;
   private final int sampleRate;
+  private ByteBuffer packetBuffer;
   private OpusPacketRouter opusPacketRouter;
 
   /**
    * @param packetInputStream OGG packet input stream
-   * @param broker Broker for loading stream data into direct byte buffer.
    * @param channelCount Number of channels in the track.
    * @param sampleRate Sample rate of the track.
    */
-  public OggOpusTrackHandler(OggPacketInputStream packetInputStream, DirectBufferStreamBroker broker, int channelCount,
-                             int sampleRate) {
-
+  public OggOpusTrackHandler(OggPacketInputStream packetInputStream, int channelCount, int sampleRate) {
     this.packetInputStream = packetInputStream;
-    this.broker = broker;
     this.channelCount = channelCount;
     this.sampleRate = sampleRate;
+    this.packetBuffer = ByteBuffer.allocate(INITIAL_PACKET_BUFFER_SIZE);
   }
 
   @Override
@@ -43,9 +43,7 @@ public class OggOpusTrackHandler implements OggTrackHandler {
   public void provideFrames() throws InterruptedException {
     try {
       while (packetInputStream.startNewPacket()) {
-        broker.consumeNext(packetInputStream, Integer.MAX_VALUE, Integer.MAX_VALUE);
-
-        ByteBuffer buffer = broker.getBuffer();
+        ByteBuffer buffer = readPacket();
 
         if (buffer.remaining() > 0) {
           opusPacketRouter.process(buffer);
@@ -56,6 +54,29 @@ public class OggOpusTrackHandler implements OggTrackHandler {
     }
   }
 
+  private ByteBuffer readPacket() throws IOException {
+    int length = 0;
+    int chunk;
+
+    do {
+      if (length == packetBuffer.capacity()) {
+        ByteBuffer largerBuffer = ByteBuffer.allocate(packetBuffer.capacity() * 2);
+        System.arraycopy(packetBuffer.array(), 0, largerBuffer.array(), 0, length);
+        packetBuffer = largerBuffer;
+      }
+
+      chunk = packetInputStream.read(packetBuffer.array(), length, packetBuffer.capacity() - length);
+
+      if (chunk > 0) {
+        length += chunk;
+      }
+    } while (chunk != -1);
+
+    packetBuffer.clear();
+    packetBuffer.limit(length);
+    return packetBuffer;
+  }
+
   @Override
   public void seekToTimecode(long timecode) {
     throw new UnsupportedOperationException();
@@ -4,38 +4,119 @@ import java.nio.ShortBuffer;
 import java.util.List;
 
 /**
- * Represents an audio pipeline (top-level audio filter chain).
+ * Represents an audio pipeline (top-level audio filter chain). When a seek lands before the requested position, the
+ * samples in between are discarded at the input of the pipeline, so they never go through any of the filters.
  */
 public class AudioPipeline extends CompositeAudioFilter {
   private final List<AudioFilter> filters;
   private final UniversalPcmAudioFilter first;
+  private final PcmFormat inputFormat;
+  private final UserProvidedAudioFilters userFilters;
+  private long pendingDiscardSamples;
 
   /**
    * @param chain The top-level filter chain.
+   * @param inputFormat The format of the input of this pipeline.
    */
-  public AudioPipeline(AudioFilterChain chain) {
+  public AudioPipeline(AudioFilterChain chain, PcmFormat inputFormat) {
     this.filters = chain.filters;
     this.first = chain.input;
+    this.inputFormat = inputFormat;
+    this.userFilters = findUserFilters(chain.filters);
+  }
+
+  private static UserProvidedAudioFilters findUserFilters(List<AudioFilter> filters) {
+    for (AudioFilter filter : filters) {
+      if (filter instanceof UserProvidedAudioFilters) {
+        return (UserProvidedAudioFilters) filter;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @return The filter factory for which the user provided filters in this pipeline turned out to be an empty chain,
+   *         <code>null</code> if there is no such factory.
+   */
+  public PcmFilterFactory getEmptyChainFactory() {
+    return userFilters != null ? userFilters.getEmptyChainFactory() : null;
+  }
+
+  @Override
+  public void seekPerformed(long requestedTime, long providedTime) {
+    if (requestedTime > providedTime) {
+      seekPerformedAtSample(requestedTime, providedTime * inputFormat.sampleRate / 1000L);
+    } else {
+      pendingDiscardSamples = 0;
+      super.seekPerformed(requestedTime, providedTime);
+    }
+  }
+
+  /**
+   * Indicates that the next samples are not a continuation from the previous ones, with the position of the next
+   * sample known exactly. Samples before the requested position are discarded before they reach any filter.
+   *
+   * @param requestedTime Timecode in milliseconds to which the seek was requested to
+   * @param providedSampleIndex Index of the next incoming sample (per channel, at the input sample rate)
+   */
+  public void seekPerformedAtSample(long requestedTime, long providedSampleIndex) {
+    long requestedSampleIndex = requestedTime * inputFormat.sampleRate / 1000L;
+
+    if (requestedSampleIndex > providedSampleIndex) {
+      pendingDiscardSamples = requestedSampleIndex - providedSampleIndex;
+      super.seekPerformed(requestedTime, requestedTime);
+    } else {
+      pendingDiscardSamples = 0;
+      super.seekPerformed(requestedTime, providedSampleIndex * 1000L / inputFormat.sampleRate);
+    }
   }
 
   @Override
   public void process(float[][] input, int offset, int length) throws InterruptedException {
-    first.process(input, offset, length);
+    int discarded = discardSamples(length);
+
+    if (discarded < length) {
+      first.process(input, offset + discarded, length - discarded);
+    }
   }
 
   @Override
   public void process(short[] input, int offset, int length) throws InterruptedException {
-    first.process(input, offset, length);
+    int discarded = discardSamples(length / inputFormat.channelCount) * inputFormat.channelCount;
+
+    if (discarded < length) {
+      first.process(input, offset + discarded, length - discarded);
+    }
   }
 
   @Override
   public void process(ShortBuffer buffer) throws InterruptedException {
-    first.process(buffer);
+    int discarded = discardSamples(buffer.remaining() / inputFormat.channelCount) * inputFormat.channelCount;
+    buffer.position(buffer.position() + discarded);
+
+    if (buffer.hasRemaining()) {
+      first.process(buffer);
+    }
   }
 
   @Override
   public void process(short[][] input, int offset, int length) throws InterruptedException {
-    first.process(input, offset, length);
+    int discarded = discardSamples(length);
+
+    if (discarded < length) {
+      first.process(input, offset + discarded, length - discarded);
+    }
+  }
+
+  private int discardSamples(int available) {
+    if (pendingDiscardSamples == 0) {
+      return 0;
+    }
+
+    int discarded = (int) Math.min(pendingDiscardSamples, available);
+    pendingDiscardSamples -= discarded;
+    return discarded;
   }
 
   @Override
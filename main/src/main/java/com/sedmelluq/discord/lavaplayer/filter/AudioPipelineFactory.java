@@ -3,9 +3,10 @@ package com.sedmelluq.discord.lavaplayer.filter;
 import com.sedmelluq.discord.lavaplayer.filter.volume.VolumePostProcessor;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Factory for audio pipelines. Contains helper methods to determine whether an audio pipeline is even required.
@@ -17,8 +18,28 @@ public class AudioPipelineFactory {
    * @return True if no audio processing is currently required with this context and input format combination.
    */
   public static boolean isProcessingRequired(AudioProcessingContext context, AudioDataFormat inputFormat) {
+    return isProcessingRequired(context, inputFormat, null);
+  }
+
+  /**
+   * @param context Audio processing context to check output format from
+   * @param inputFormat Input format of the audio
+   * @param identityFactory Filter factory which is already known to build a chain which does not change the audio, for
+   *                        example because it built an empty chain. May be <code>null</code>.
+   * @return True if no audio processing is currently required with this context and input format combination.
+   */
+  public static boolean isProcessingRequired(AudioProcessingContext context, AudioDataFormat inputFormat,
+                                             PcmFilterFactory identityFactory) {
+
     return !context.outputFormat.equals(inputFormat) || context.playerOptions.volumeLevel.get() != 100 ||
-        context.playerOptions.filterFactory.get() != null;
+        (context.loudnessTracker != null && context.loudnessTracker.isProcessingRequired()) ||
+        !isIdentityFilterFactory(context.playerOptions.filterFactory.get(), context.outputFormat, identityFactory);
+  }
+
+  private static boolean isIdentityFilterFactory(PcmFilterFactory factory, AudioDataFormat format,
+                                                 PcmFilterFactory identityFactory) {
+
+    return factory == null || factory == identityFactory || factory.isIdentity(format);
   }
 
   /**
@@ -31,35 +52,54 @@ public class AudioPipelineFactory {
   public static AudioPipeline create(AudioProcessingContext context, PcmFormat inputFormat) {
     int inputChannels = inputFormat.channelCount;
     int outputChannels = context.outputFormat.channelCount;
+    boolean hasUserFilters = context.filterHotSwapEnabled || context.playerOptions.filterFactory.get() != null;
+    boolean requiresResampling = inputFormat.sampleRate != context.outputFormat.sampleRate;
+
+    // With nothing between the input and the final filter, it does the channel count conversion itself. Volume is
+    // always applied by the final filter while it copies samples into the chunk buffer.
+    int finalInputChannels = hasUserFilters || requiresResampling ? outputChannels : inputChannels;
+
+    FinalPcmAudioFilter end = new FinalPcmAudioFilter(context, finalInputChannels,
+        new VolumePostProcessor(context), createPostProcessors(context));
 
-    UniversalPcmAudioFilter end = new FinalPcmAudioFilter(context, createPostProcessors(context));
     FilterChainBuilder builder = new FilterChainBuilder();
     builder.addFirst(end);
 
-    if (context.filterHotSwapEnabled || context.playerOptions.filterFactory.get() != null) {
+    if (hasUserFilters) {
       UserProvidedAudioFilters userFilters = new UserProvidedAudioFilters(context, end);
+      end.setSpeedSource(userFilters);
       builder.addFirst(userFilters);
     }
 
-    if (inputFormat.sampleRate != context.outputFormat.sampleRate) {
-      builder.addFirst(new ResamplingPcmAudioFilter(context.configuration, outputChannels,
-          builder.makeFirstFloat(outputChannels), inputFormat.sampleRate, context.outputFormat.sampleRate));
+    if (requiresResampling) {
+      builder.addFirst(createResampler(context, outputChannels, builder.makeFirstFloat(outputChannels),
+          inputFormat.sampleRate));
     }
 
-    if (inputChannels != outputChannels) {
+    if (inputChannels != finalInputChannels) {
       builder.addFirst(new ChannelCountPcmAudioFilter(inputChannels, outputChannels,
           builder.makeFirstUniversal(outputChannels)));
     }
 
-    return new AudioPipeline(builder.build(null, inputChannels));
+    return new AudioPipeline(builder.build(null, inputChannels), inputFormat);
+  }
+
+  private static FloatPcmAudioFilter createResampler(AudioProcessingContext context, int channels,
+                                                     FloatPcmAudioFilter downstream, int sourceRate) {
+
+    int targetRate = context.outputFormat.sampleRate;
+
+    if (context.configuration.getResamplingQuality() == AudioConfiguration.ResamplingQuality.POLYPHASE &&
+        PolyphaseFilterBank.isSupported(sourceRate, targetRate)) {
+
+      return new PolyphaseResamplingPcmAudioFilter(channels, downstream, sourceRate, targetRate);
+    } else {
+      return new ResamplingPcmAudioFilter(context.configuration, channels, downstream, sourceRate, targetRate);
+    }
   }
 
   private static Collection<AudioPostProcessor> createPostProcessors(AudioProcessingContext context) {
     AudioChunkEncoder chunkEncoder = context.outputFormat.createEncoder(context.configuration);
-
-    return Arrays.asList(
-        new VolumePostProcessor(context),
-        new BufferingPostProcessor(context, chunkEncoder)
-    );
+    return Collections.singletonList(new BufferingPostProcessor(context, chunkEncoder));
   }
 }
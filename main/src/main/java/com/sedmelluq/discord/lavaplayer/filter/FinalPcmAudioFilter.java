@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.filter;
 
+import com.sedmelluq.discord.lavaplayer.filter.volume.VolumePostProcessor;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 import java.nio.ByteBuffer;
@@ -10,7 +11,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Collects buffers of the required chunk size and passes them on to audio post processors.
+ * Collects buffers of the required chunk size and passes them on to audio post processors. Can optionally take over
+ * the work of a channel count filter and a volume post processor, doing both in the same pass which copies the samples
+ * into the frame buffer instead of running separate passes over each chunk.
  */
 public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
   private static final Logger log = LoggerFactory.getLogger(FinalPcmAudioFilter.class);
@@ -18,32 +21,72 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
 
   private final AudioDataFormat format;
   private final ShortBuffer frameBuffer;
+  private final short[] conversionBuffer;
   private final Collection<AudioPostProcessor> postProcessors;
+  private final int inputChannels;
+  private final VolumePostProcessor fusedVolume;
+  private short[] inputBuffer;
+  private SpeedChangingAudioFilter speedSource;
 
   private long ignoredFrames;
   private long timecodeBase;
-  private long timecodeSampleOffset;
+  private double timecodeSampleOffset;
+  private float chunkMultiplier;
 
   /**
    * @param context Configuration and output information for processing
    * @param postProcessors Post processors to pass the final audio buffers to
    */
   public FinalPcmAudioFilter(AudioProcessingContext context, Collection<AudioPostProcessor> postProcessors) {
+    this(context, context.outputFormat.channelCount, null, postProcessors);
+  }
+
+  /**
+   * @param context Configuration and output information for processing
+   * @param inputChannels Number of channels in interleaved input. If this differs from the output channel count, the
+   *                      channels are mapped the same way as {@link ChannelCountPcmAudioFilter} does. Interleaved input
+   *                      must then always contain whole frames.
+   * @param fusedVolume Volume processor to apply while copying samples into the frame buffer, null to not apply volume
+   * @param postProcessors Post processors to pass the final audio buffers to
+   */
+  public FinalPcmAudioFilter(AudioProcessingContext context, int inputChannels, VolumePostProcessor fusedVolume,
+                             Collection<AudioPostProcessor> postProcessors) {
+
     this.format = context.outputFormat;
     this.frameBuffer = ByteBuffer
         .allocateDirect(format.totalSampleCount() * 2)
         .order(ByteOrder.nativeOrder())
         .asShortBuffer();
+    this.conversionBuffer = new short[format.totalSampleCount()];
     this.postProcessors = postProcessors;
+    this.inputChannels = inputChannels;
+    this.fusedVolume = fusedVolume;
 
     timecodeBase = 0;
     timecodeSampleOffset = 0;
+    chunkMultiplier = 1.0f;
+  }
+
+  /**
+   * @param speedSource Filter before this one which may change the speed of the audio. The timecodes of the chunks are
+   *                    then advanced by the duration of the track they correspond to instead of their own duration.
+   */
+  public void setSpeedSource(SpeedChangingAudioFilter speedSource) {
+    this.speedSource = speedSource;
+  }
+
+  private double getSpeed() {
+    return speedSource != null ? speedSource.getSpeed() : 1.0;
   }
 
   private short decodeSample(float sample) {
     return (short) Math.min(Math.max((int)(sample * 32768.f), -32768), 32767);
   }
 
+  private static short scaleSample(float sample, float multiplier) {
+    return (short) Math.max(-32767, Math.min(32767, (int) (sample * multiplier)));
+  }
+
   @Override
   public void seekPerformed(long requestedTime, long providedTime) {
     frameBuffer.clear();
@@ -51,6 +94,10 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
     timecodeBase = Math.max(requestedTime, providedTime);
     timecodeSampleOffset = 0;
 
+    if (fusedVolume != null) {
+      fusedVolume.seekPerformed();
+    }
+
     if (ignoredFrames > 0) {
       log.debug("Ignoring {} frames due to inaccurate seek (requested {}, provided {}).", ignoredFrames, requestedTime, providedTime);
     }
@@ -66,6 +113,10 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
 
   @Override
   public void close() {
+    if (fusedVolume != null) {
+      fusedVolume.close();
+    }
+
     for (AudioPostProcessor postProcessor : postProcessors) {
       postProcessor.close();
     }
@@ -83,35 +134,146 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
 
   @Override
   public void process(short[] input, int offset, int length) throws InterruptedException {
-    for (int i = 0; i < length; i++) {
-      if (ignoredFrames > 0) {
-        ignoredFrames--;
+    if (inputChannels != format.channelCount) {
+      processRemapped(input, offset, length);
+      return;
+    }
+
+    if (ignoredFrames > 0) {
+      int skipped = (int) Math.min(length, ignoredFrames);
+      ignoredFrames -= skipped;
+      offset += skipped;
+      length -= skipped;
+    }
+
+    while (length > 0) {
+      startChunk();
+      int chunk = Math.min(length, frameBuffer.remaining());
+
+      if (chunkMultiplier == 1.0f) {
+        frameBuffer.put(input, offset, chunk);
       } else {
-        frameBuffer.put(input[offset + i]);
+        for (int i = 0; i < chunk; i++) {
+          conversionBuffer[i] = scaleSample(input[offset + i], chunkMultiplier);
+        }
+
+        frameBuffer.put(conversionBuffer, 0, chunk);
+      }
+
+      dispatch();
+
+      offset += chunk;
+      length -= chunk;
+    }
+  }
+
+  private void processRemapped(short[] input, int offset, int length) throws InterruptedException {
+    int channelCount = format.channelCount;
+    int frames = length / inputChannels;
+    int skipped = skipIgnoredFrames(frames);
+    offset += skipped * inputChannels;
+    frames -= skipped;
+
+    while (frames > 0) {
+      startChunk();
+      int chunk = Math.min(frames, frameBuffer.remaining() / channelCount);
+
+      remapChunk(input, offset, chunk);
+      dispatch();
+
+      offset += chunk * inputChannels;
+      frames -= chunk;
+    }
+  }
 
-        dispatch();
+  private void processRemapped(ShortBuffer buffer) throws InterruptedException {
+    int channelCount = format.channelCount;
+    int frames = buffer.remaining() / inputChannels;
+    int skipped = skipIgnoredFrames(frames);
+    buffer.position(buffer.position() + skipped * inputChannels);
+    frames -= skipped;
+
+    while (frames > 0) {
+      startChunk();
+      int chunk = Math.min(frames, frameBuffer.remaining() / channelCount);
+      int inputLength = chunk * inputChannels;
+
+      if (inputBuffer == null || inputBuffer.length < inputLength) {
+        inputBuffer = new short[inputLength];
+      }
+
+      // Only one chunk at a time is read out of the buffer, straight into the array the remapping reads from
+      buffer.get(inputBuffer, 0, inputLength);
+      remapChunk(inputBuffer, 0, chunk);
+      dispatch();
+
+      frames -= chunk;
+    }
+
+    buffer.position(buffer.limit());
+  }
+
+  private void remapChunk(short[] input, int offset, int frames) {
+    int channelCount = format.channelCount;
+    float multiplier = chunkMultiplier;
+
+    for (int channel = 0; channel < channelCount; channel++) {
+      int inputIndex = offset + (channel < inputChannels ? channel : 0);
+
+      for (int i = 0; i < frames; i++) {
+        conversionBuffer[i * channelCount + channel] = scaleSample(input[inputIndex + i * inputChannels], multiplier);
       }
     }
+
+    frameBuffer.put(conversionBuffer, 0, frames * channelCount);
   }
 
   @Override
   public void process(short[][] input, int offset, int length) throws InterruptedException {
-    int secondChannelIndex = Math.min(1, input.length - 1);
+    int channelCount = format.channelCount;
+    int skipped = skipIgnoredFrames(length);
+    offset += skipped;
+    length -= skipped;
 
-    for (int i = 0; i < length; i++) {
-      if (ignoredFrames > 0) {
-        ignoredFrames -= format.channelCount;
-      } else {
-        frameBuffer.put(input[0][offset + i]);
-        frameBuffer.put(input[secondChannelIndex][offset + i]);
+    while (length > 0) {
+      startChunk();
+      int chunk = Math.min(length, frameBuffer.remaining() / channelCount);
+      float multiplier = chunkMultiplier;
+
+      for (int channel = 0; channel < channelCount; channel++) {
+        short[] channelInput = input[Math.min(channel, input.length - 1)];
 
-        dispatch();
+        if (multiplier == 1.0f) {
+          for (int i = 0; i < chunk; i++) {
+            conversionBuffer[i * channelCount + channel] = channelInput[offset + i];
+          }
+        } else {
+          for (int i = 0; i < chunk; i++) {
+            conversionBuffer[i * channelCount + channel] = scaleSample(channelInput[offset + i], multiplier);
+          }
+        }
       }
+
+      frameBuffer.put(conversionBuffer, 0, chunk * channelCount);
+      dispatch();
+
+      offset += chunk;
+      length -= chunk;
     }
   }
 
   @Override
   public void process(ShortBuffer buffer) throws InterruptedException {
+    if (buffer.hasArray()) {
+      // Heap buffers are processed in place through their backing array
+      process(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+      return;
+    } else if (inputChannels != format.channelCount) {
+      processRemapped(buffer);
+      return;
+    }
+
     if (ignoredFrames > 0) {
       long skipped = Math.min(buffer.remaining(), ignoredFrames);
       buffer.position(buffer.position() + (int) skipped);
@@ -121,45 +283,97 @@ public class FinalPcmAudioFilter implements UniversalPcmAudioFilter {
     ShortBuffer local = buffer.duplicate();
 
     while (buffer.remaining() > 0) {
+      startChunk();
       int chunk = Math.min(buffer.remaining(), frameBuffer.remaining());
-      local.position(buffer.position());
-      local.limit(local.position() + chunk);
 
-      frameBuffer.put(local);
-      dispatch();
+      if (chunkMultiplier == 1.0f) {
+        local.position(buffer.position());
+        local.limit(local.position() + chunk);
+        frameBuffer.put(local);
+        buffer.position(buffer.position() + chunk);
+      } else {
+        // One bulk read of the chunk, scaled in place before it is written to the frame buffer
+        buffer.get(conversionBuffer, 0, chunk);
+
+        for (int i = 0; i < chunk; i++) {
+          conversionBuffer[i] = scaleSample(conversionBuffer[i], chunkMultiplier);
+        }
+
+        frameBuffer.put(conversionBuffer, 0, chunk);
+      }
 
-      buffer.position(buffer.position() + chunk);
+      dispatch();
     }
   }
 
   @Override
   public void process(float[][] buffer, int offset, int length) throws InterruptedException {
-    int secondChannelIndex = Math.min(1, buffer.length - 1);
+    int channelCount = format.channelCount;
+    int skipped = skipIgnoredFrames(length);
+    offset += skipped;
+    length -= skipped;
 
-    for (int i = 0; i < length; i++) {
-      if (ignoredFrames > 0) {
-        ignoredFrames -= 2;
-      } else {
-        frameBuffer.put(decodeSample(buffer[0][offset + i]));
-        frameBuffer.put(decodeSample(buffer[secondChannelIndex][offset + i]));
+    while (length > 0) {
+      startChunk();
+      int chunk = Math.min(length, frameBuffer.remaining() / channelCount);
+      float scale = 32768.0f * chunkMultiplier;
+
+      // Convert a whole chunk in a tight loop over arrays, writing sample by sample into the direct buffer is much slower
+      for (int channel = 0; channel < channelCount; channel++) {
+        float[] channelInput = buffer[Math.min(channel, buffer.length - 1)];
 
-        dispatch();
+        if (chunkMultiplier == 1.0f) {
+          for (int i = 0; i < chunk; i++) {
+            conversionBuffer[i * channelCount + channel] = decodeSample(channelInput[offset + i]);
+          }
+        } else {
+          for (int i = 0; i < chunk; i++) {
+            conversionBuffer[i * channelCount + channel] = scaleSample(channelInput[offset + i], scale);
+          }
+        }
       }
+
+      frameBuffer.put(conversionBuffer, 0, chunk * channelCount);
+      dispatch();
+
+      offset += chunk;
+      length -= chunk;
+    }
+  }
+
+  private int skipIgnoredFrames(int length) {
+    if (ignoredFrames <= 0) {
+      return 0;
+    }
+
+    int channelCount = format.channelCount;
+    int skipped = (int) Math.min(length, (ignoredFrames + channelCount - 1) / channelCount);
+    ignoredFrames -= (long) skipped * channelCount;
+    return skipped;
+  }
+
+  private void startChunk() {
+    if (fusedVolume != null && frameBuffer.position() == 0) {
+      chunkMultiplier = fusedVolume.startFusedChunk();
     }
   }
 
   private void dispatch() throws InterruptedException {
     if (!frameBuffer.hasRemaining()) {
-      long timecode = timecodeBase + timecodeSampleOffset * 1000 / format.sampleRate;
+      long timecode = timecodeBase + (long) (timecodeSampleOffset * 1000 / format.sampleRate);
       frameBuffer.clear();
 
+      if (fusedVolume != null) {
+        fusedVolume.finishFusedChunk(frameBuffer);
+      }
+
       for (AudioPostProcessor postProcessor : postProcessors) {
         postProcessor.process(timecode, frameBuffer);
       }
 
       frameBuffer.clear();
 
-      timecodeSampleOffset += format.chunkSampleCount;
+      timecodeSampleOffset += format.chunkSampleCount * getSpeed();
     }
   }
 }
@@ -1,7 +1,9 @@
 package com.sedmelluq.discord.lavaplayer.filter;
 
 /**
- * Audio filter which accepts floating point PCM samples.
+ * Audio filter which accepts floating point PCM samples. Samples are nominally in the range from -1 to 1, but may
+ * exceed it. Float filters should not clamp their output, as samples are clamped only when converted to short PCM,
+ * which in a pipeline happens in {@link FinalPcmAudioFilter} after volume has been applied to the float values.
  */
 public interface FloatPcmAudioFilter extends AudioFilter {
   /**
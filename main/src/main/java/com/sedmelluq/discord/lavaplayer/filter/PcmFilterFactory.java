@@ -21,4 +21,17 @@ public interface PcmFilterFactory {
    * @return The list of filters in the built chain. May be empty, but not <code>null</code>.
    */
   List<AudioFilter> buildChain(AudioTrack track, AudioDataFormat format, UniversalPcmAudioFilter output);
+
+  /**
+   * Checks whether the chain this factory would build with its current configuration leaves the audio unchanged. When
+   * this is the case and nothing else requires processing, the audio can be passed through without decoding it. This
+   * is called frequently during playback, so it should be cheap. When the configuration changes to something which
+   * does modify the audio, this must start returning <code>false</code>, and processing is enabled again.
+   *
+   * @param format The output format of the track.
+   * @return <code>true</code> if the chain built by this factory would currently not change the audio.
+   */
+  default boolean isIdentity(AudioDataFormat format) {
+    return false;
+  }
 }
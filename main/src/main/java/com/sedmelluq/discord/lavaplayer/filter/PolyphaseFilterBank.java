@@ -0,0 +1,134 @@
+package com.sedmelluq.discord.lavaplayer.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed polyphase filter bank for resampling by a rational factor. The coefficients only depend on the ratio of
+ * the sample rates, so one instance is shared by all resamplers using the same ratio. Instances are immutable.
+ */
+public class PolyphaseFilterBank {
+  /**
+   * Number of input samples each output sample is calculated from.
+   */
+  public static final int TAP_COUNT = 32;
+
+  private static final int MAX_PHASE_COUNT = 1024;
+  private static final double CUTOFF = 0.91;
+  private static final double KAISER_BETA = 8.0;
+
+  private static final Map<Long, PolyphaseFilterBank> banks = new ConcurrentHashMap<>();
+
+  /**
+   * Upsampling factor, also the number of phases.
+   */
+  public final int interpolation;
+  /**
+   * Downsampling factor, the number of phases to advance for each output sample.
+   */
+  public final int decimation;
+  /**
+   * Coefficients of all phases, {@link #TAP_COUNT} values for each phase one after another.
+   */
+  final float[] coefficients;
+
+  private PolyphaseFilterBank(int interpolation, int decimation) {
+    this.interpolation = interpolation;
+    this.decimation = decimation;
+    this.coefficients = createCoefficients(interpolation, decimation);
+  }
+
+  /**
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   * @return True if a filter bank can be created for this pair of sample rates.
+   */
+  public static boolean isSupported(int sourceRate, int targetRate) {
+    return sourceRate > 0 && targetRate > 0 && targetRate / gcd(sourceRate, targetRate) <= MAX_PHASE_COUNT;
+  }
+
+  /**
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate
+   * @return Shared filter bank for this pair of sample rates.
+   */
+  public static PolyphaseFilterBank get(int sourceRate, int targetRate) {
+    if (!isSupported(sourceRate, targetRate)) {
+      throw new IllegalArgumentException("No polyphase filter bank for resampling " + sourceRate + " to " + targetRate);
+    }
+
+    int divisor = gcd(sourceRate, targetRate);
+    int interpolation = targetRate / divisor;
+    int decimation = sourceRate / divisor;
+
+    return banks.computeIfAbsent(((long) interpolation << 32) | decimation,
+        key -> new PolyphaseFilterBank(interpolation, decimation));
+  }
+
+  private static float[] createCoefficients(int interpolation, int decimation) {
+    float[] coefficients = new float[interpolation * TAP_COUNT];
+    double cutoff = CUTOFF * Math.min(1.0, (double) interpolation / decimation);
+    double halfLength = TAP_COUNT / 2.0;
+    double windowNormalisation = besselI0(KAISER_BETA);
+
+    for (int phase = 0; phase < interpolation; phase++) {
+      double fraction = (double) phase / interpolation;
+      double sum = 0;
+
+      for (int tap = 0; tap < TAP_COUNT; tap++) {
+        // Distance from the output position to the input sample this tap is multiplied with
+        double distance = (TAP_COUNT / 2 - 1 - tap) + fraction;
+        double relative = distance / halfLength;
+        double window = Math.abs(relative) < 1.0 ?
+            besselI0(KAISER_BETA * Math.sqrt(1.0 - relative * relative)) / windowNormalisation : 0.0;
+
+        double value = cutoff * sinc(cutoff * distance) * window;
+        coefficients[phase * TAP_COUNT + tap] = (float) value;
+        sum += value;
+      }
+
+      // Normalise each phase separately, so that a constant signal stays constant regardless of the phase
+      for (int tap = 0; tap < TAP_COUNT; tap++) {
+        coefficients[phase * TAP_COUNT + tap] /= sum;
+      }
+    }
+
+    return coefficients;
+  }
+
+  private static double sinc(double value) {
+    if (value == 0.0) {
+      return 1.0;
+    }
+
+    double scaled = Math.PI * value;
+    return Math.sin(scaled) / scaled;
+  }
+
+  private static double besselI0(double value) {
+    double sum = 1.0;
+    double term = 1.0;
+    double halfValue = value / 2.0;
+
+    for (int i = 1; i < 50; i++) {
+      term *= (halfValue / i) * (halfValue / i);
+      sum += term;
+
+      if (term < sum * 1e-12) {
+        break;
+      }
+    }
+
+    return sum;
+  }
+
+  private static int gcd(int a, int b) {
+    while (b != 0) {
+      int remainder = a % b;
+      a = b;
+      b = remainder;
+    }
+
+    return a;
+  }
+}
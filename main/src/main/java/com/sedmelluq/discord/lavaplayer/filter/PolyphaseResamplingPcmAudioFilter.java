@@ -0,0 +1,170 @@
+package com.sedmelluq.discord.lavaplayer.filter;
+
+import java.util.Arrays;
+
+import static com.sedmelluq.discord.lavaplayer.filter.PolyphaseFilterBank.TAP_COUNT;
+
+/**
+ * Filter which resamples audio to the specified sample rate using a polyphase filter bank. Unlike
+ * {@link ResamplingPcmAudioFilter}, this is implemented in Java and only uses shared precomputed tables, so it does not
+ * need any native resources.
+ */
+public class PolyphaseResamplingPcmAudioFilter implements FloatPcmAudioFilter {
+  private static final int BUFFER_SIZE = 4096;
+  private static final int INPUT_CAPACITY = 2048;
+
+  private final FloatPcmAudioFilter downstream;
+  private final PolyphaseFilterBank filterBank;
+  private final float[][] inputWindows;
+  private final float[][] outputSegments;
+
+  private int inputAvailable;
+  private int inputPosition;
+  private int phase;
+  private boolean hasInput;
+
+  /**
+   * @param channels Number of channels in input data
+   * @param downstream Next filter in chain
+   * @param sourceRate Source sample rate
+   * @param targetRate Target sample rate, {@link PolyphaseFilterBank#isSupported(int, int)} must be true for the rates.
+   */
+  public PolyphaseResamplingPcmAudioFilter(int channels, FloatPcmAudioFilter downstream, int sourceRate,
+                                           int targetRate) {
+
+    this.downstream = downstream;
+    this.filterBank = PolyphaseFilterBank.get(sourceRate, targetRate);
+    this.inputWindows = new float[channels][TAP_COUNT + INPUT_CAPACITY];
+    this.outputSegments = new float[channels][BUFFER_SIZE];
+
+    reset();
+  }
+
+  private void reset() {
+    // Start with silence before the first sample, so that the first output sample is aligned with the first input one
+    inputAvailable = TAP_COUNT / 2 - 1;
+
+    for (float[] window : inputWindows) {
+      Arrays.fill(window, 0, inputAvailable, 0.0f);
+    }
+
+    inputPosition = 0;
+    phase = 0;
+    hasInput = false;
+  }
+
+  @Override
+  public void seekPerformed(long requestedTime, long providedTime) {
+    reset();
+  }
+
+  @Override
+  public void flush() throws InterruptedException {
+    if (hasInput) {
+      // The last samples are still in the window waiting for the taps after them, pad with silence to output them. The
+      // filter chain flushes the downstream filters after this one.
+      int padding = TAP_COUNT / 2;
+
+      for (float[] window : inputWindows) {
+        Arrays.fill(window, inputAvailable, inputAvailable + padding, 0.0f);
+      }
+
+      inputAvailable += padding;
+      resampleAvailable();
+      reset();
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do.
+  }
+
+  @Override
+  public void process(float[][] input, int offset, int length) throws InterruptedException {
+    hasInput |= length > 0;
+
+    while (length > 0) {
+      int chunk = Math.min(length, inputWindows[0].length - inputAvailable);
+
+      for (int channel = 0; channel < inputWindows.length; channel++) {
+        System.arraycopy(input[channel], offset, inputWindows[channel], inputAvailable, chunk);
+      }
+
+      inputAvailable += chunk;
+      offset += chunk;
+      length -= chunk;
+
+      resampleAvailable();
+      discardUsedInput();
+    }
+  }
+
+  private void resampleAvailable() throws InterruptedException {
+    int count;
+
+    while ((count = countOutputSamples()) > 0) {
+      int startPosition = inputPosition;
+      int startPhase = phase;
+
+      for (int channel = 0; channel < inputWindows.length; channel++) {
+        inputPosition = startPosition;
+        phase = startPhase;
+        resampleChannel(inputWindows[channel], outputSegments[channel], count);
+      }
+
+      downstream.process(outputSegments, 0, count);
+    }
+  }
+
+  private int countOutputSamples() {
+    int interpolation = filterBank.interpolation;
+    int decimation = filterBank.decimation;
+    int position = inputPosition;
+    int currentPhase = phase;
+    int count = 0;
+
+    while (count < BUFFER_SIZE && position + TAP_COUNT <= inputAvailable) {
+      currentPhase += decimation;
+      position += currentPhase / interpolation;
+      currentPhase %= interpolation;
+      count++;
+    }
+
+    return count;
+  }
+
+  private void resampleChannel(float[] window, float[] output, int count) {
+    float[] coefficients = filterBank.coefficients;
+    int interpolation = filterBank.interpolation;
+    int decimation = filterBank.decimation;
+
+    for (int i = 0; i < count; i++) {
+      int coefficientOffset = phase * TAP_COUNT;
+      float sum = 0.0f;
+
+      for (int tap = 0; tap < TAP_COUNT; tap++) {
+        sum += window[inputPosition + tap] * coefficients[coefficientOffset + tap];
+      }
+
+      output[i] = sum;
+
+      phase += decimation;
+      inputPosition += phase / interpolation;
+      phase %= interpolation;
+    }
+  }
+
+  private void discardUsedInput() {
+    int discarded = Math.min(inputPosition, inputAvailable);
+
+    if (discarded > 0) {
+      for (float[] window : inputWindows) {
+        System.arraycopy(window, discarded, window, 0, inputAvailable - discarded);
+      }
+
+      inputAvailable -= discarded;
+      inputPosition -= discarded;
+    }
+  }
+}
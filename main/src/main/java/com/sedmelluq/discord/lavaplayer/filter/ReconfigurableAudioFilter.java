@@ -0,0 +1,28 @@
+package com.sedmelluq.discord.lavaplayer.filter;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+
+/**
+ * A filter which can take over the configuration of a new filter factory in place. When filter hot swap is enabled
+ * and the filter factory of a player changes, the current chain is kept if every filter built by the previous factory
+ * can be reconfigured for the new one, so that the filters keep their buffers and state instead of being rebuilt.
+ */
+public interface ReconfigurableAudioFilter extends AudioFilter {
+  /**
+   * @param factory The new filter factory
+   * @param format The output format of the track
+   * @return <code>true</code> if after {@link #reconfigure(PcmFilterFactory, AudioDataFormat)} this filter behaves
+   *         the same as the filter in its place in the chain which the factory would build.
+   */
+  boolean isReconfigurable(PcmFilterFactory factory, AudioDataFormat format);
+
+  /**
+   * Applies the configuration of the new factory. Only called if every filter in the chain returned <code>true</code>
+   * from {@link #isReconfigurable(PcmFilterFactory, AudioDataFormat)}, on the processing thread between two process
+   * calls. This should not allocate anything.
+   *
+   * @param factory The new filter factory
+   * @param format The output format of the track
+   */
+  void reconfigure(PcmFilterFactory factory, AudioDataFormat format);
+}
@@ -73,6 +73,7 @@ public class ResamplingPcmAudioFilter implements FloatPcmAudioFilter {
 
   private static SampleRateConverter.ResamplingType getResamplingType(AudioConfiguration.ResamplingQuality quality) {
     switch (quality) {
+      case POLYPHASE:
       case HIGH:
         return SampleRateConverter.ResamplingType.SINC_MEDIUM_QUALITY;
       case MEDIUM:
@@ -0,0 +1,13 @@
+package com.sedmelluq.discord.lavaplayer.filter;
+
+/**
+ * A filter which changes the speed of the audio, so that its output covers a different amount of time of the track
+ * than its duration. {@link FinalPcmAudioFilter} uses this to keep the timecodes of the frames in sync with the track.
+ */
+public interface SpeedChangingAudioFilter extends AudioFilter {
+  /**
+   * @return Current ratio of input duration to output duration, 1 if the speed is not changed. Called from the
+   *         processing thread for every output chunk, so it should be cheap.
+   */
+  double getSpeed();
+}
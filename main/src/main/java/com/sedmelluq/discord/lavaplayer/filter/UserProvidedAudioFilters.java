@@ -8,13 +8,16 @@ import java.util.List;
 
 /**
  * An composite audio filter for filters provided by a {@link PcmFilterFactory}. Automatically rebuilds the chain
- * whenever the filter factory is changed.
+ * whenever the filter factory is changed, unless all of its filters can be reconfigured in place, see
+ * {@link ReconfigurableAudioFilter}.
  */
-public class UserProvidedAudioFilters extends CompositeAudioFilter {
+public class UserProvidedAudioFilters extends CompositeAudioFilter implements SpeedChangingAudioFilter {
   private final AudioProcessingContext context;
   private final UniversalPcmAudioFilter nextFilter;
   private final boolean hotSwapEnabled;
   private AudioFilterChain chain;
+  private List<AudioFilter> factoryFilters;
+  private PcmFilterFactory chainFactory;
 
   /**
    * @param context Configuration and output information for processing
@@ -24,35 +27,68 @@ public class UserProvidedAudioFilters extends CompositeAudioFilter {
     this.context = context;
     this.nextFilter = nextFilter;
     this.hotSwapEnabled = context.filterHotSwapEnabled;
-    this.chain = buildFragment(context, nextFilter);
+    buildFragment(context.playerOptions.filterFactory.get());
   }
 
-  private static AudioFilterChain buildFragment(AudioProcessingContext context,
-                                                UniversalPcmAudioFilter nextFilter) {
-
-    PcmFilterFactory factory = context.playerOptions.filterFactory.get();
+  private void buildFragment(PcmFilterFactory factory) {
+    chainFactory = factory;
 
     if (factory == null) {
-      return new AudioFilterChain(nextFilter, Collections.emptyList(), null);
+      factoryFilters = Collections.emptyList();
+      chain = new AudioFilterChain(nextFilter, Collections.emptyList(), null);
     } else {
       FilterChainBuilder builder = new FilterChainBuilder();
 
-      List<AudioFilter> filters = new ArrayList<>(factory.buildChain(null, context.outputFormat, nextFilter));
+      factoryFilters = factory.buildChain(null, context.outputFormat, nextFilter);
 
-      if (filters.isEmpty()) {
-        return new AudioFilterChain(nextFilter, Collections.emptyList(), null);
+      if (factoryFilters.isEmpty()) {
+        chain = new AudioFilterChain(nextFilter, Collections.emptyList(), factory);
+        return;
       }
 
+      List<AudioFilter> filters = new ArrayList<>(factoryFilters);
       Collections.reverse(filters);
 
       for (AudioFilter filter : filters) {
         builder.addFirst(filter);
       }
 
-      return builder.build(factory, context.outputFormat.channelCount);
+      chain = builder.build(factory, context.outputFormat.channelCount);
+    }
+  }
+
+  /**
+   * @return The filter factory for which this currently holds an empty chain, <code>null</code> if the chain is not
+   *         empty or is about to be rebuilt for a different factory.
+   */
+  public PcmFilterFactory getEmptyChainFactory() {
+    PcmFilterFactory factory = chainFactory;
+
+    if (factory != null && chain.filters.isEmpty() && factory == context.playerOptions.filterFactory.get()) {
+      return factory;
+    } else {
+      return null;
     }
   }
 
+  /**
+   * @return Combined speed of the filters which change the speed of the audio in the current chain.
+   */
+  @Override
+  public double getSpeed() {
+    double speed = 1.0;
+
+    for (int i = 0; i < factoryFilters.size(); i++) {
+      AudioFilter filter = factoryFilters.get(i);
+
+      if (filter instanceof SpeedChangingAudioFilter) {
+        speed *= ((SpeedChangingAudioFilter) filter).getSpeed();
+      }
+    }
+
+    return speed;
+  }
+
   @Override
   protected List<AudioFilter> getFilters() {
     return chain.filters;
@@ -83,10 +119,39 @@ public class UserProvidedAudioFilters extends CompositeAudioFilter {
   }
 
   private void checkRebuild() throws InterruptedException {
-    if (hotSwapEnabled && context.playerOptions.filterFactory.get() != chain.context) {
-      flush();
-      close();
-      chain = buildFragment(context, nextFilter);
+    PcmFilterFactory factory = context.playerOptions.filterFactory.get();
+
+    if (hotSwapEnabled && factory != chainFactory) {
+      if (reconfigure(factory)) {
+        chainFactory = factory;
+      } else {
+        flush();
+        close();
+        buildFragment(factory);
+      }
+    }
+  }
+
+  private boolean reconfigure(PcmFilterFactory factory) {
+    if (factory == null || factoryFilters.isEmpty()) {
+      return false;
     }
+
+    // Indexed loops, as this is meant to not allocate anything
+    for (int i = 0; i < factoryFilters.size(); i++) {
+      AudioFilter filter = factoryFilters.get(i);
+
+      if (!(filter instanceof ReconfigurableAudioFilter) ||
+          !((ReconfigurableAudioFilter) filter).isReconfigurable(factory, context.outputFormat)) {
+
+        return false;
+      }
+    }
+
+    for (int i = 0; i < factoryFilters.size(); i++) {
+      ((ReconfigurableAudioFilter) factoryFilters.get(i)).reconfigure(factory, context.outputFormat);
+    }
+
+    return true;
   }
 }
@@ -24,6 +24,6 @@ public abstract class ConverterAudioFilter implements UniversalPcmAudioFilter {
   }
 
   protected static short floatToShort(float value) {
-    return (short) (value * 32768.0f);
+    return (short) Math.min(Math.max((int) (value * 32768.0f), -32768), 32767);
   }
 }
@@ -31,12 +31,12 @@ public class ToShortAudioFilter extends ConverterAudioFilter {
 
       for (int chunkPosition = 0; chunkPosition < chunkSize; chunkPosition++) {
         for (int channel = 0; channel < channelCount; channel++) {
-          outputBuffer[writePosition++] = floatToShort(input[channel][chunkPosition]);
+          outputBuffer[writePosition++] = floatToShort(input[channel][offset + chunkPosition]);
         }
       }
 
       offset += chunkSize;
-      downstream.process(outputBuffer, 0, chunkSize);
+      downstream.process(outputBuffer, 0, writePosition);
     }
   }
 
@@ -60,12 +60,12 @@ public class ToShortAudioFilter extends ConverterAudioFilter {
 
       for (int chunkPosition = 0; chunkPosition < chunkSize; chunkPosition++) {
         for (int channel = 0; channel < channelCount; channel++) {
-          outputBuffer[writePosition++] = input[channel][chunkPosition];
+          outputBuffer[writePosition++] = input[channel][offset + chunkPosition];
         }
       }
 
       offset += chunkSize;
-      downstream.process(outputBuffer, 0, chunkSize);
+      downstream.process(outputBuffer, 0, writePosition);
     }
   }
 }
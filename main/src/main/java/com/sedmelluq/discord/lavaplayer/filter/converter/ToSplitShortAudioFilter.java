@@ -33,11 +33,15 @@ public class ToSplitShortAudioFilter extends ConverterAudioFilter {
       int chunkLength = Math.min(end - offset, BUFFER_SIZE);
 
       for (int channel = 0; channel < channelCount; channel++) {
+        float[] channelInput = input[channel];
+        short[] channelOutput = buffers[channel];
+
         for (int chunkPosition = 0; chunkPosition < chunkLength; chunkPosition++) {
-          buffers[channel][chunkPosition] = floatToShort(input[channel][offset + chunkPosition]);
+          channelOutput[chunkPosition] = floatToShort(channelInput[offset + chunkPosition]);
         }
       }
 
+      offset += chunkLength;
       downstream.process(buffers, 0, chunkLength);
     }
   }
@@ -47,11 +51,11 @@ public class ToSplitShortAudioFilter extends ConverterAudioFilter {
     int end = offset + length;
 
     while (end - offset >= channelCount) {
-      int chunkLength = Math.min(end - offset, BUFFER_SIZE * channelCount);
+      int chunkLength = Math.min((end - offset) / channelCount, BUFFER_SIZE);
 
       for (int chunkPosition = 0; chunkPosition < chunkLength; chunkPosition++) {
         for (int channel = 0; channel < buffers.length; channel++) {
-          buffers[channel][chunkPosition] = floatToShort(input[offset++]);
+          buffers[channel][chunkPosition] = input[offset++];
         }
       }
 
@@ -62,11 +66,15 @@ public class ToSplitShortAudioFilter extends ConverterAudioFilter {
   @Override
   public void process(ShortBuffer buffer) throws InterruptedException {
     while (buffer.hasRemaining()) {
-      int chunkLength = Math.min(buffer.remaining(), BUFFER_SIZE * channelCount);
+      int chunkLength = Math.min(buffer.remaining() / channelCount, BUFFER_SIZE);
+
+      if (chunkLength == 0) {
+        break;
+      }
 
       for (int chunkPosition = 0; chunkPosition < chunkLength; chunkPosition++) {
         for (int channel = 0; channel < buffers.length; channel++) {
-          buffers[channel][chunkPosition] = floatToShort(buffer.get());
+          buffers[channel][chunkPosition] = buffer.get();
         }
       }
 
@@ -1,14 +1,18 @@
 package com.sedmelluq.discord.lavaplayer.filter.equalizer;
 
 import com.sedmelluq.discord.lavaplayer.filter.FloatPcmAudioFilter;
+import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
+import com.sedmelluq.discord.lavaplayer.filter.ReconfigurableAudioFilter;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import java.util.Arrays;
 
 /**
  * An equalizer PCM filter. Applies the equalizer with configuration specified by band multipliers (either set
- * externally or using {@link #setGain(int, float)}).
+ * externally or using {@link #setGain(int, float)}). When the filter factory is replaced by another
+ * {@link EqualizerFactory} with filter hot swap, the existing instance switches to the band multipliers of the new
+ * factory and keeps its filter state.
  */
-public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFilter {
+public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFilter, ReconfigurableAudioFilter {
   /**
    * Number of bands in the equalizer.
    */
@@ -37,6 +41,18 @@ public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFi
       new Coefficients(4.1811888447e-01f, 2.9094055777e-01f, -7.0905944223e-01f)
   };
 
+  private static final float[] alphas = new float[BAND_COUNT];
+  private static final float[] betas = new float[BAND_COUNT];
+  private static final float[] gammas = new float[BAND_COUNT];
+
+  static {
+    for (int bandIndex = 0; bandIndex < BAND_COUNT; bandIndex++) {
+      alphas[bandIndex] = coefficients48000[bandIndex].alpha;
+      betas[bandIndex] = coefficients48000[bandIndex].beta;
+      gammas[bandIndex] = coefficients48000[bandIndex].gamma;
+    }
+  }
+
   /**
    * @param channelCount Number of channels in the input.
    * @param next The next filter in the chain.
@@ -45,7 +61,7 @@ public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFi
    */
   public Equalizer(int channelCount, FloatPcmAudioFilter next, float[] bandMultipliers) {
     super(bandMultipliers);
-    this.channels = createProcessors(channelCount, bandMultipliers);
+    this.channels = createProcessors(channelCount);
     this.next = next;
   }
 
@@ -68,12 +84,22 @@ public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFi
   @Override
   public void process(float[][] input, int offset, int length) throws InterruptedException {
     for (int channelIndex = 0; channelIndex < channels.length; channelIndex++) {
-      channels[channelIndex].process(input[channelIndex], offset, offset + length);
+      channels[channelIndex].process(bandMultipliers, input[channelIndex], offset, offset + length);
     }
 
     next.process(input, offset, length);
   }
 
+  @Override
+  public boolean isReconfigurable(PcmFilterFactory factory, AudioDataFormat format) {
+    return factory instanceof EqualizerFactory && isCompatible(format) && channels.length == format.channelCount;
+  }
+
+  @Override
+  public void reconfigure(PcmFilterFactory factory, AudioDataFormat format) {
+    bandMultipliers = ((EqualizerFactory) factory).bandMultipliers;
+  }
+
   @Override
   public void seekPerformed(long requestedTime, long providedTime) {
     for (int channelIndex = 0; channelIndex < channels.length; channelIndex++) {
@@ -91,71 +117,69 @@ public class Equalizer extends EqualizerConfiguration implements FloatPcmAudioFi
     // Nothing to do here.
   }
 
-  private static ChannelProcessor[] createProcessors(int channelCount, float[] bandMultipliers) {
+  private static ChannelProcessor[] createProcessors(int channelCount) {
     ChannelProcessor[] processors = new ChannelProcessor[channelCount];
 
     for (int i = 0; i < channelCount; i++) {
-      processors[i] = new ChannelProcessor(bandMultipliers);
+      processors[i] = new ChannelProcessor();
     }
 
     return processors;
   }
 
+  /**
+   * Keeps the filter state of each band in separate flat arrays, so that the per-band loop only does independent array
+   * operations which the JIT compiler can vectorise.
+   */
   private static class ChannelProcessor {
-    private final float[] history;
-    private final float[] bandMultipliers;
-
-    private int current;
-    private int minusOne;
-    private int minusTwo;
-
-    private ChannelProcessor(float[] bandMultipliers) {
-      this.history = new float[BAND_COUNT * 6];
-      this.bandMultipliers = bandMultipliers;
-      this.current = 0;
-      this.minusOne = 2;
-      this.minusTwo = 1;
+    private final float[] inputMinusOne;
+    private final float[] inputMinusTwo;
+    private final float[] outputMinusOne;
+    private final float[] outputMinusTwo;
+    private final float[] bandResults;
+
+    private ChannelProcessor() {
+      this.inputMinusOne = new float[BAND_COUNT];
+      this.inputMinusTwo = new float[BAND_COUNT];
+      this.outputMinusOne = new float[BAND_COUNT];
+      this.outputMinusTwo = new float[BAND_COUNT];
+      this.bandResults = new float[BAND_COUNT];
     }
 
-    private void process(float[] samples, int startIndex, int endIndex) {
+    private void process(float[] bandMultipliers, float[] samples, int startIndex, int endIndex) {
       for (int sampleIndex = startIndex; sampleIndex < endIndex; sampleIndex++) {
         float sample = samples[sampleIndex];
-        float result = sample * 0.25f;
 
         for (int bandIndex = 0; bandIndex < BAND_COUNT; bandIndex++) {
-          int x = bandIndex * 6;
-          int y = x + 3;
-
-          Coefficients coefficients = coefficients48000[bandIndex];
-
-          float bandResult = coefficients.alpha * (sample - history[x + minusTwo]) +
-              coefficients.gamma * history[y + minusOne] -
-              coefficients.beta * history[y + minusTwo];
+          float bandResult = alphas[bandIndex] * (sample - inputMinusTwo[bandIndex]) +
+              gammas[bandIndex] * outputMinusOne[bandIndex] -
+              betas[bandIndex] * outputMinusTwo[bandIndex];
 
-          history[x + current] = sample;
-          history[y + current] = bandResult;
+          inputMinusTwo[bandIndex] = inputMinusOne[bandIndex];
+          inputMinusOne[bandIndex] = sample;
+          outputMinusTwo[bandIndex] = outputMinusOne[bandIndex];
+          outputMinusOne[bandIndex] = bandResult;
 
-          result += bandResult * bandMultipliers[bandIndex];
+          bandResults[bandIndex] = bandResult * bandMultipliers[bandIndex];
         }
 
-        samples[sampleIndex] = Math.min(Math.max(result * 4.0f, -1.0f), 1.0f);
-
-        if (++current == 3) {
-          current = 0;
-        }
+        float result = sample * 0.25f;
 
-        if (++minusOne == 3) {
-          minusOne = 0;
+        // Summed separately in band order, so the result is the same as when accumulating in the loop above
+        for (int bandIndex = 0; bandIndex < BAND_COUNT; bandIndex++) {
+          result += bandResults[bandIndex];
         }
 
-        if (++minusTwo == 3) {
-          minusTwo = 0;
-        }
+        // Not clamped, boosted peaks are only clipped if they are still too loud after volume is applied
+        samples[sampleIndex] = result * 4.0f;
       }
     }
 
     private void reset() {
-      Arrays.fill(history, 0.0f);
+      Arrays.fill(inputMinusOne, 0.0f);
+      Arrays.fill(inputMinusTwo, 0.0f);
+      Arrays.fill(outputMinusOne, 0.0f);
+      Arrays.fill(outputMinusTwo, 0.0f);
     }
   }
 
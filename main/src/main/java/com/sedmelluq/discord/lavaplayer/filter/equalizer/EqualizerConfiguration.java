@@ -4,7 +4,7 @@ package com.sedmelluq.discord.lavaplayer.filter.equalizer;
  * Holder of equalizer configuration.
  */
 public class EqualizerConfiguration {
-  protected final float[] bandMultipliers;
+  protected float[] bandMultipliers;
 
   /**
    * @param bandMultipliers The band multiplier values. Keeps using this array internally, so the values can be changed
@@ -38,6 +38,19 @@ public class EqualizerConfiguration {
     }
   }
 
+  /**
+   * @return <code>true</code> if the gain of every band is 0, in which case the equalizer does not change the audio.
+   */
+  public boolean isFlat() {
+    for (float multiplier : bandMultipliers) {
+      if (multiplier != 0.0f) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   private boolean isValidBand(int band) {
     return band >= 0 && band < bandMultipliers.length;
   }
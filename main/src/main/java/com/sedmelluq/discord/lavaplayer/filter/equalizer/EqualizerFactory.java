@@ -28,4 +28,9 @@ public class EqualizerFactory extends EqualizerConfiguration implements PcmFilte
       return Collections.emptyList();
     }
   }
+
+  @Override
+  public boolean isIdentity(AudioDataFormat format) {
+    return !Equalizer.isCompatible(format) || isFlat();
+  }
 }
@@ -0,0 +1,202 @@
+package com.sedmelluq.discord.lavaplayer.filter.loudness;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Measures the integrated loudness of audio as specified by ITU-R BS.1770 and EBU R128: K-weighted mean square over
+ * 400ms blocks with 75% overlap, with an absolute gate at -70 LUFS and a relative gate 10 LU below the ungated
+ * loudness. Block loudness values are kept in a histogram with 0.1 LU resolution, so the memory use does not depend on
+ * the length of the audio.
+ */
+public class LoudnessMeter {
+  private static final double ABSOLUTE_GATE = -70.0;
+  private static final double HISTOGRAM_MAXIMUM = 10.0;
+  private static final int HISTOGRAM_BINS_PER_LU = 10;
+  private static final int HISTOGRAM_SIZE = (int) ((HISTOGRAM_MAXIMUM - ABSOLUTE_GATE) * HISTOGRAM_BINS_PER_LU);
+  private static final int SUB_BLOCKS_PER_BLOCK = 4;
+
+  private final int channelCount;
+  private final int subBlockLength;
+  private final double[] filterCoefficients;
+  private final double[][] filterStates;
+  private final double[] subBlockEnergies;
+  private final long[] histogramCounts;
+  private final double[] histogramEnergies;
+
+  private double currentEnergy;
+  private int currentLength;
+  private int subBlockCount;
+  private long blockCount;
+
+  /**
+   * @param sampleRate Sample rate of the audio
+   * @param channelCount Number of channels in the audio
+   */
+  public LoudnessMeter(int sampleRate, int channelCount) {
+    this.channelCount = channelCount;
+    this.subBlockLength = sampleRate / 10;
+    this.filterCoefficients = createKWeightingCoefficients(sampleRate);
+    this.filterStates = new double[channelCount][4];
+    this.subBlockEnergies = new double[SUB_BLOCKS_PER_BLOCK];
+    this.histogramCounts = new long[HISTOGRAM_SIZE];
+    this.histogramEnergies = new double[HISTOGRAM_SIZE];
+  }
+
+  private static double[] createKWeightingCoefficients(int sampleRate) {
+    // High shelf stage, modelling the acoustic effect of the head
+    double frequency = 1681.974450955533;
+    double gain = 3.999843853973347;
+    double quality = 0.7071752369554196;
+
+    double k = Math.tan(Math.PI * frequency / sampleRate);
+    double vh = Math.pow(10.0, gain / 20.0);
+    double vb = Math.pow(vh, 0.4996667741545416);
+    double a0 = 1.0 + k / quality + k * k;
+
+    double shelfB0 = (vh + vb * k / quality + k * k) / a0;
+    double shelfB1 = 2.0 * (k * k - vh) / a0;
+    double shelfB2 = (vh - vb * k / quality + k * k) / a0;
+    double shelfA1 = 2.0 * (k * k - 1.0) / a0;
+    double shelfA2 = (1.0 - k / quality + k * k) / a0;
+
+    // High pass stage
+    frequency = 38.13547087602444;
+    quality = 0.5003270373238773;
+    k = Math.tan(Math.PI * frequency / sampleRate);
+    a0 = 1.0 + k / quality + k * k;
+
+    double passA1 = 2.0 * (k * k - 1.0) / a0;
+    double passA2 = (1.0 - k / quality + k * k) / a0;
+
+    return new double[] { shelfB0, shelfB1, shelfB2, shelfA1, shelfA2, passA1, passA2 };
+  }
+
+  /**
+   * @param buffer Interleaved samples, read from position to limit without changing the position
+   * @param multiplier Multiplier which has already been applied to the samples, the measurement is done as if it was 1
+   */
+  public void process(ShortBuffer buffer, float multiplier) {
+    if (multiplier <= 0.0f) {
+      return;
+    }
+
+    double scale = 1.0 / (32768.0 * multiplier);
+    int position = buffer.position();
+    int frameCount = buffer.remaining() / channelCount;
+
+    double b0 = filterCoefficients[0];
+    double b1 = filterCoefficients[1];
+    double b2 = filterCoefficients[2];
+    double a1 = filterCoefficients[3];
+    double a2 = filterCoefficients[4];
+    double passA1 = filterCoefficients[5];
+    double passA2 = filterCoefficients[6];
+
+    for (int frame = 0; frame < frameCount; frame++) {
+      for (int channel = 0; channel < channelCount; channel++) {
+        double[] state = filterStates[channel];
+        double input = buffer.get(position + frame * channelCount + channel) * scale;
+
+        // Both stages in direct form II
+        double shelf = input - a1 * state[0] - a2 * state[1];
+        double shelfOutput = b0 * shelf + b1 * state[0] + b2 * state[1];
+        state[1] = state[0];
+        state[0] = shelf;
+
+        double pass = shelfOutput - passA1 * state[2] - passA2 * state[3];
+        double output = pass - 2.0 * state[2] + state[3];
+        state[3] = state[2];
+        state[2] = pass;
+
+        currentEnergy += output * output;
+      }
+
+      if (++currentLength == subBlockLength) {
+        finishSubBlock();
+      }
+    }
+  }
+
+  private void finishSubBlock() {
+    subBlockEnergies[subBlockCount % SUB_BLOCKS_PER_BLOCK] = currentEnergy / subBlockLength;
+    subBlockCount++;
+    currentEnergy = 0.0;
+    currentLength = 0;
+
+    if (subBlockCount >= SUB_BLOCKS_PER_BLOCK) {
+      double blockEnergy = 0.0;
+
+      for (double energy : subBlockEnergies) {
+        blockEnergy += energy;
+      }
+
+      addBlock(blockEnergy / SUB_BLOCKS_PER_BLOCK);
+    }
+  }
+
+  private void addBlock(double energy) {
+    double loudness = energyToLoudness(energy);
+
+    if (loudness > ABSOLUTE_GATE) {
+      int bin = Math.min(HISTOGRAM_SIZE - 1, (int) ((loudness - ABSOLUTE_GATE) * HISTOGRAM_BINS_PER_LU));
+      histogramCounts[bin]++;
+      histogramEnergies[bin] += energy;
+      blockCount++;
+    }
+  }
+
+  /**
+   * Discards partially collected blocks, used when the audio does not continue from the previous samples.
+   */
+  public void reset() {
+    for (double[] state : filterStates) {
+      for (int i = 0; i < state.length; i++) {
+        state[i] = 0.0;
+      }
+    }
+
+    currentEnergy = 0.0;
+    currentLength = 0;
+    subBlockCount = 0;
+  }
+
+  /**
+   * @return Total duration of the blocks which passed the absolute gate, in milliseconds.
+   */
+  public long getMeasuredDuration() {
+    // Blocks overlap, each one adds 100ms of new audio
+    return blockCount * 100;
+  }
+
+  /**
+   * @return The integrated loudness in LUFS, or {@link Double#NEGATIVE_INFINITY} if nothing was above the absolute gate.
+   */
+  public double getIntegratedLoudness() {
+    if (blockCount == 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+
+    double totalEnergy = 0.0;
+
+    for (double energy : histogramEnergies) {
+      totalEnergy += energy;
+    }
+
+    double relativeGate = energyToLoudness(totalEnergy / blockCount) - 10.0;
+    int firstBin = Math.max(0, (int) Math.ceil((relativeGate - ABSOLUTE_GATE) * HISTOGRAM_BINS_PER_LU));
+
+    double gatedEnergy = 0.0;
+    long gatedCount = 0;
+
+    for (int bin = firstBin; bin < HISTOGRAM_SIZE; bin++) {
+      gatedEnergy += histogramEnergies[bin];
+      gatedCount += histogramCounts[bin];
+    }
+
+    return gatedCount > 0 ? energyToLoudness(gatedEnergy / gatedCount) : Double.NEGATIVE_INFINITY;
+  }
+
+  private static double energyToLoudness(double energy) {
+    return -0.691 + 10.0 * Math.log10(energy);
+  }
+}
@@ -0,0 +1,91 @@
+package com.sedmelluq.discord.lavaplayer.filter.loudness;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loudness normalization settings and the cache of measured track loudness values. The loudness of a track is measured
+ * while it plays for the first time, and on later plays it is brought to the target loudness by a static gain which is
+ * applied together with the volume of the player. Set it with
+ * {@link com.sedmelluq.discord.lavaplayer.player.AudioConfiguration#setLoudnessNormalizer(LoudnessNormalizer)}.
+ *
+ * Note that both measuring and applying a gain require decoding the audio, so tracks which could otherwise be passed
+ * through without decoding are decoded while this is enabled, unless their loudness is already at the target.
+ */
+public class LoudnessNormalizer {
+  /**
+   * Minimum duration of audio above the absolute gate for a measurement to be stored.
+   */
+  public static final long MINIMUM_MEASURED_DURATION = 20000;
+
+  private final double targetLoudness;
+  private final double maximumGain;
+  private final Map<String, Double> loudnessCache;
+
+  /**
+   * @param targetLoudness Target integrated loudness in LUFS
+   * @param maximumGain Maximum gain in dB which is applied to quiet tracks
+   * @param cacheSize Maximum number of track loudness values to keep
+   */
+  public LoudnessNormalizer(double targetLoudness, double maximumGain, int cacheSize) {
+    this.targetLoudness = targetLoudness;
+    this.maximumGain = maximumGain;
+    this.loudnessCache = new LinkedHashMap<String, Double>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+        return size() > cacheSize;
+      }
+    };
+  }
+
+  /**
+   * @param identifier Identifier of the track
+   * @return Measured integrated loudness of the track in LUFS, null if it is not known
+   */
+  public Double getLoudness(String identifier) {
+    synchronized (loudnessCache) {
+      return loudnessCache.get(identifier);
+    }
+  }
+
+  /**
+   * @param identifier Identifier of the track
+   * @param loudness Integrated loudness of the track in LUFS
+   */
+  public void setLoudness(String identifier, double loudness) {
+    synchronized (loudnessCache) {
+      loudnessCache.put(identifier, loudness);
+    }
+  }
+
+  /**
+   * @param loudness Integrated loudness of a track in LUFS
+   * @return Linear gain which brings the track to the target loudness
+   */
+  public float getGain(double loudness) {
+    if (Double.isInfinite(loudness)) {
+      return 1.0f;
+    }
+
+    double gain = Math.min(targetLoudness - loudness, maximumGain);
+    return (float) Math.pow(10.0, gain / 20.0);
+  }
+
+  /**
+   * @param identifier Identifier of the track
+   * @param format Format of the audio the tracker will receive
+   * @return Tracker for one playback of the track
+   */
+  public LoudnessTracker createTracker(String identifier, AudioDataFormat format) {
+    Double loudness = identifier != null ? getLoudness(identifier) : null;
+
+    if (loudness != null) {
+      return new LoudnessTracker(this, identifier, getGain(loudness), null);
+    } else if (identifier != null) {
+      return new LoudnessTracker(this, identifier, 1.0f, new LoudnessMeter(format.sampleRate, format.channelCount));
+    } else {
+      return null;
+    }
+  }
+}
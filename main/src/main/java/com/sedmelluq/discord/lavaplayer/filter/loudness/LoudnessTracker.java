@@ -0,0 +1,74 @@
+package com.sedmelluq.discord.lavaplayer.filter.loudness;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Loudness state for one playback of a track. Either has the gain from an earlier measurement of the track, or measures
+ * the loudness during this playback and stores it when the playback ends. The measurement is only stored if no filters
+ * changed the audio while it was measured, as they are not necessarily active on later plays of the track.
+ */
+public class LoudnessTracker {
+  private final LoudnessNormalizer normalizer;
+  private final String identifier;
+  private final float gain;
+  private final LoudnessMeter meter;
+  private boolean filtered;
+
+  /**
+   * @param normalizer Normalizer to store the measurement in
+   * @param identifier Identifier of the track
+   * @param gain Gain to apply to the track
+   * @param meter Meter to measure the loudness with, null if it is already known
+   */
+  public LoudnessTracker(LoudnessNormalizer normalizer, String identifier, float gain, LoudnessMeter meter) {
+    this.normalizer = normalizer;
+    this.identifier = identifier;
+    this.gain = gain;
+    this.meter = meter;
+  }
+
+  /**
+   * @return Gain to apply to the samples of the track, applied together with volume
+   */
+  public float getGain() {
+    return gain;
+  }
+
+  /**
+   * @return True if audio has to be decoded for this track, either for measuring or for applying the gain
+   */
+  public boolean isProcessingRequired() {
+    return meter != null || gain != 1.0f;
+  }
+
+  /**
+   * @param buffer Chunk of output samples
+   * @param multiplier Multiplier which has already been applied to the samples
+   * @param filtersActive Whether user filters which change the audio were applied to the samples
+   */
+  public void measure(ShortBuffer buffer, float multiplier, boolean filtersActive) {
+    if (filtersActive) {
+      filtered = true;
+    } else if (meter != null && !filtered) {
+      meter.process(buffer, multiplier);
+    }
+  }
+
+  /**
+   * Called when the audio does not continue from the previously measured samples.
+   */
+  public void discontinuity() {
+    if (meter != null) {
+      meter.reset();
+    }
+  }
+
+  /**
+   * Stores the measured loudness if enough unfiltered audio was measured. Called once when the playback ends.
+   */
+  public void finish() {
+    if (meter != null && !filtered && meter.getMeasuredDuration() >= LoudnessNormalizer.MINIMUM_MEASURED_DURATION) {
+      normalizer.setLoudness(identifier, meter.getIntegratedLoudness());
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.sedmelluq.discord.lavaplayer.filter.timescale;
+
+/**
+ * Holder of timescale configuration. Values are read by the filter for each block of audio it produces, so they can
+ * be changed while the audio is playing.
+ */
+public class TimescaleConfiguration {
+  /**
+   * Minimum value of each of the parameters.
+   */
+  public static final double MINIMUM_VALUE = 0.25;
+  /**
+   * Maximum value of each of the parameters.
+   */
+  public static final double MAXIMUM_VALUE = 4.0;
+
+  private volatile double speed = 1.0;
+  private volatile double pitch = 1.0;
+  private volatile double rate = 1.0;
+
+  /**
+   * @return Speed multiplier which does not affect pitch. Default is 1.
+   */
+  public double getSpeed() {
+    return speed;
+  }
+
+  /**
+   * @param speed Speed multiplier which does not affect pitch.
+   */
+  public void setSpeed(double speed) {
+    this.speed = clamp(speed);
+  }
+
+  /**
+   * @return Pitch multiplier which does not affect speed. Default is 1.
+   */
+  public double getPitch() {
+    return pitch;
+  }
+
+  /**
+   * @param pitch Pitch multiplier which does not affect speed.
+   */
+  public void setPitch(double pitch) {
+    this.pitch = clamp(pitch);
+  }
+
+  /**
+   * @return Multiplier for both speed and pitch, same as playing at a different sample rate. Default is 1.
+   */
+  public double getRate() {
+    return rate;
+  }
+
+  /**
+   * @param rate Multiplier for both speed and pitch, same as playing at a different sample rate.
+   */
+  public void setRate(double rate) {
+    this.rate = clamp(rate);
+  }
+
+  /**
+   * @return <code>true</code> if all parameters are 1, in which case the audio is not changed.
+   */
+  public boolean isNeutral() {
+    return speed == 1.0 && pitch == 1.0 && rate == 1.0;
+  }
+
+  private static double clamp(double value) {
+    return Math.max(MINIMUM_VALUE, Math.min(value, MAXIMUM_VALUE));
+  }
+}
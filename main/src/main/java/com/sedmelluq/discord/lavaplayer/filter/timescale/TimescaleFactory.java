@@ -0,0 +1,25 @@
+package com.sedmelluq.discord.lavaplayer.filter.timescale;
+
+import com.sedmelluq.discord.lavaplayer.filter.AudioFilter;
+import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
+import com.sedmelluq.discord.lavaplayer.filter.UniversalPcmAudioFilter;
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PCM filter factory which creates a single {@link TimescalePcmAudioFilter} for every track. Changes to the speed,
+ * pitch and rate of this factory apply to the filters it has built, also while they are playing.
+ */
+public class TimescaleFactory extends TimescaleConfiguration implements PcmFilterFactory {
+  @Override
+  public List<AudioFilter> buildChain(AudioTrack track, AudioDataFormat format, UniversalPcmAudioFilter output) {
+    return Collections.singletonList(new TimescalePcmAudioFilter(format.channelCount, format.sampleRate, output, this));
+  }
+
+  @Override
+  public boolean isIdentity(AudioDataFormat format) {
+    return isNeutral();
+  }
+}
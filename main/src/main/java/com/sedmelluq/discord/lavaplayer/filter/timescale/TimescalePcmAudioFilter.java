@@ -0,0 +1,349 @@
+package com.sedmelluq.discord.lavaplayer.filter.timescale;
+
+import com.sedmelluq.discord.lavaplayer.filter.FloatPcmAudioFilter;
+import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
+import com.sedmelluq.discord.lavaplayer.filter.ReconfigurableAudioFilter;
+import com.sedmelluq.discord.lavaplayer.filter.SpeedChangingAudioFilter;
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import java.util.Arrays;
+
+/**
+ * Filter which changes the speed and the pitch of the audio independently of each other. The duration is changed with
+ * WSOLA (waveform similarity overlap-add): the output is assembled from overlapping windowed frames of the input, each
+ * taken from near its nominal position at the offset where its waveform best continues the previous frame. Pitch is
+ * changed by stretching the duration by the pitch ratio and resampling the result back with cubic interpolation.
+ *
+ * All buffers are allocated when the filter is created, the configuration is read for every frame.
+ */
+public class TimescalePcmAudioFilter implements FloatPcmAudioFilter, ReconfigurableAudioFilter,
+    SpeedChangingAudioFilter {
+
+  private static final int FRAME_DURATION_MS = 20;
+  private static final int SEEK_DURATION_MS = 5;
+  private static final int COARSE_SEEK_STEP = 4;
+  private static final int HISTORY_SIZE = 3;
+  private static final int OUTPUT_SIZE = 2048;
+
+  private final FloatPcmAudioFilter downstream;
+  private final int channelCount;
+  private final int sampleRate;
+  private final int frameLength;
+  private final int hopLength;
+  private final int seekLength;
+  private final float[] window;
+  private final float[][] input;
+  private final float[] mono;
+  private final float[] reference;
+  private final float[][] overlap;
+  private final float[][] stretched;
+  private final float[][] output;
+
+  private TimescaleConfiguration configuration;
+  private int inputLength;
+  private double inputPosition;
+  private boolean hasPreviousFrame;
+  private int previousFramePosition;
+  private double resamplePosition;
+  private int outputLength;
+
+  /**
+   * @param channelCount Number of channels in the input
+   * @param sampleRate Sample rate of the input
+   * @param downstream The next filter in the chain
+   * @param configuration Configuration to read the speed, pitch and rate from
+   */
+  public TimescalePcmAudioFilter(int channelCount, int sampleRate, FloatPcmAudioFilter downstream,
+                                 TimescaleConfiguration configuration) {
+
+    this.downstream = downstream;
+    this.channelCount = channelCount;
+    this.sampleRate = sampleRate;
+    this.frameLength = (sampleRate * FRAME_DURATION_MS / 1000) & ~1;
+    this.hopLength = frameLength / 2;
+    this.seekLength = sampleRate * SEEK_DURATION_MS / 1000;
+    this.window = createWindow(frameLength);
+    this.input = new float[channelCount][2 * (frameLength + seekLength)];
+    this.mono = new float[input[0].length];
+    this.reference = new float[hopLength];
+    this.overlap = new float[channelCount][hopLength];
+    this.stretched = new float[channelCount][HISTORY_SIZE + hopLength];
+    this.output = new float[channelCount][OUTPUT_SIZE];
+    this.configuration = configuration;
+
+    reset();
+  }
+
+  private static float[] createWindow(int length) {
+    // Periodic Hann window, two of them overlapping by half sum to exactly 1
+    float[] window = new float[length];
+
+    for (int i = 0; i < length; i++) {
+      window[i] = (float) (0.5 - 0.5 * Math.cos(2.0 * Math.PI * i / length));
+    }
+
+    return window;
+  }
+
+  private void reset() {
+    inputLength = 0;
+    inputPosition = 0.0;
+    hasPreviousFrame = false;
+    previousFramePosition = 0;
+    resamplePosition = HISTORY_SIZE;
+    outputLength = 0;
+
+    for (float[] channel : stretched) {
+      Arrays.fill(channel, 0, HISTORY_SIZE, 0.0f);
+    }
+  }
+
+  @Override
+  public double getSpeed() {
+    TimescaleConfiguration current = configuration;
+    return current.getSpeed() * current.getRate();
+  }
+
+  @Override
+  public boolean isReconfigurable(PcmFilterFactory factory, AudioDataFormat format) {
+    return factory instanceof TimescaleFactory && format.channelCount == channelCount &&
+        format.sampleRate == sampleRate;
+  }
+
+  @Override
+  public void reconfigure(PcmFilterFactory factory, AudioDataFormat format) {
+    configuration = (TimescaleFactory) factory;
+  }
+
+  @Override
+  public void process(float[][] samples, int offset, int length) throws InterruptedException {
+    while (length > 0) {
+      if (inputLength == mono.length) {
+        discardUsedInput();
+      }
+
+      int chunk = Math.min(length, mono.length - inputLength);
+
+      for (int channel = 0; channel < channelCount; channel++) {
+        System.arraycopy(samples[channel], offset, input[channel], inputLength, chunk);
+      }
+
+      updateMono(inputLength, chunk);
+
+      inputLength += chunk;
+      offset += chunk;
+      length -= chunk;
+
+      while (isFrameAvailable()) {
+        processFrame();
+      }
+    }
+
+    flushOutput();
+  }
+
+  private void updateMono(int offset, int length) {
+    System.arraycopy(input[0], offset, mono, offset, length);
+
+    for (int channel = 1; channel < channelCount; channel++) {
+      float[] channelInput = input[channel];
+
+      for (int i = offset; i < offset + length; i++) {
+        mono[i] += channelInput[i];
+      }
+    }
+  }
+
+  private boolean isFrameAvailable() {
+    return (int) inputPosition + seekLength + frameLength <= inputLength;
+  }
+
+  private void processFrame() throws InterruptedException {
+    TimescaleConfiguration current = configuration;
+    double tempo = current.getSpeed() / current.getPitch();
+    int nominal = (int) inputPosition;
+    int position;
+
+    if (!hasPreviousFrame || nominal == previousFramePosition + hopLength) {
+      position = nominal;
+    } else {
+      position = findBestPosition(nominal);
+    }
+
+    addFrame(position);
+
+    // At normal speed stay aligned with the previous frame, so that the input is reconstructed exactly
+    inputPosition = tempo == 1.0 ? position + hopLength : inputPosition + hopLength * tempo;
+
+    resample(current.getPitch() * current.getRate());
+  }
+
+  private int findBestPosition(int nominal) {
+    int start = Math.max(0, nominal - seekLength);
+    int end = nominal + seekLength;
+    int coarse = findBestPosition(start, end, COARSE_SEEK_STEP);
+
+    return findBestPosition(Math.max(start, coarse - COARSE_SEEK_STEP + 1),
+        Math.min(end, coarse + COARSE_SEEK_STEP - 1), 1);
+  }
+
+  private int findBestPosition(int start, int end, int step) {
+    int best = start;
+    float bestScore = Float.NEGATIVE_INFINITY;
+
+    for (int candidate = start; candidate <= end; candidate += step) {
+      float correlation = 0.0f;
+      float energy = 0.0f;
+
+      for (int i = 0; i < hopLength; i += step) {
+        float sample = mono[candidate + i];
+        correlation += reference[i] * sample;
+        energy += sample * sample;
+      }
+
+      float score = energy > 0.0f ? correlation / (float) Math.sqrt(energy) : 0.0f;
+
+      if (score > bestScore) {
+        bestScore = score;
+        best = candidate;
+      }
+    }
+
+    return best;
+  }
+
+  private void addFrame(int position) {
+    for (int channel = 0; channel < channelCount; channel++) {
+      float[] channelInput = input[channel];
+      float[] channelOverlap = overlap[channel];
+      float[] target = stretched[channel];
+
+      if (hasPreviousFrame) {
+        for (int i = 0; i < hopLength; i++) {
+          target[HISTORY_SIZE + i] = channelOverlap[i] + channelInput[position + i] * window[i];
+        }
+      } else {
+        // Nothing to overlap with, so the start is not faded in
+        System.arraycopy(channelInput, position, target, HISTORY_SIZE, hopLength);
+      }
+
+      for (int i = 0; i < hopLength; i++) {
+        channelOverlap[i] = channelInput[position + hopLength + i] * window[hopLength + i];
+      }
+    }
+
+    // The second half of this frame is what the next frame should be similar to
+    System.arraycopy(mono, position + hopLength, reference, 0, hopLength);
+
+    hasPreviousFrame = true;
+    previousFramePosition = position;
+  }
+
+  private void resample(double ratio) throws InterruptedException {
+    int limit = HISTORY_SIZE + hopLength - 2;
+    double position = resamplePosition;
+
+    while (position < limit) {
+      int index = (int) position;
+      float fraction = (float) (position - index);
+
+      for (int channel = 0; channel < channelCount; channel++) {
+        output[channel][outputLength] = interpolate(stretched[channel], index, fraction);
+      }
+
+      if (++outputLength == OUTPUT_SIZE) {
+        flushOutput();
+      }
+
+      position += ratio;
+    }
+
+    // Keep the last samples as history for interpolating at the start of the next frame
+    resamplePosition = position - hopLength;
+
+    for (float[] channel : stretched) {
+      System.arraycopy(channel, hopLength, channel, 0, HISTORY_SIZE);
+    }
+  }
+
+  private static float interpolate(float[] samples, int index, float fraction) {
+    // Catmull-Rom spline through the two samples around the position and their neighbours
+    float previous = samples[index - 1];
+    float current = samples[index];
+    float next = samples[index + 1];
+    float afterNext = samples[index + 2];
+
+    float a = -0.5f * previous + 1.5f * current - 1.5f * next + 0.5f * afterNext;
+    float b = previous - 2.5f * current + 2.0f * next - 0.5f * afterNext;
+    float c = 0.5f * (next - previous);
+
+    return ((a * fraction + b) * fraction + c) * fraction + current;
+  }
+
+  private void flushOutput() throws InterruptedException {
+    if (outputLength > 0) {
+      downstream.process(output, 0, outputLength);
+      outputLength = 0;
+    }
+  }
+
+  private void discardUsedInput() {
+    // Frames are searched starting from seekLength before the nominal position, everything before that is used up
+    int discarded = Math.min(inputLength, Math.max(0, (int) inputPosition - seekLength));
+
+    if (discarded > 0) {
+      for (float[] channel : input) {
+        System.arraycopy(channel, discarded, channel, 0, inputLength - discarded);
+      }
+
+      System.arraycopy(mono, discarded, mono, 0, inputLength - discarded);
+
+      inputLength -= discarded;
+      inputPosition -= discarded;
+      previousFramePosition -= discarded;
+    }
+  }
+
+  @Override
+  public void seekPerformed(long requestedTime, long providedTime) {
+    reset();
+  }
+
+  @Override
+  public void flush() throws InterruptedException {
+    if (hasPreviousFrame || inputLength > 0) {
+      TimescaleConfiguration current = configuration;
+      double hop = hopLength * (current.getSpeed() / current.getPitch());
+      int remainingFrames = (int) Math.ceil((inputLength - inputPosition) / hop);
+
+      // Pad with silence to process the input which is still waiting for a full frame
+      while (remainingFrames > 0) {
+        if (inputLength == mono.length) {
+          discardUsedInput();
+        }
+
+        if (isFrameAvailable()) {
+          processFrame();
+          remainingFrames--;
+        } else {
+          int padding = Math.min((int) inputPosition + seekLength + frameLength, mono.length) - inputLength;
+
+          for (float[] channel : input) {
+            Arrays.fill(channel, inputLength, inputLength + padding, 0.0f);
+          }
+
+          Arrays.fill(mono, inputLength, inputLength + padding, 0.0f);
+          inputLength += padding;
+        }
+      }
+
+      // The filter chain flushes the downstream filters after this one
+      flushOutput();
+      reset();
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here.
+  }
+}
@@ -8,6 +8,8 @@ import java.nio.ShortBuffer;
 public class PcmVolumeProcessor {
   private int currentVolume = -1;
   private int integerMultiplier;
+  private float floatMultiplier;
+  private short[] samples = new short[0];
 
   /**
    * @param initialVolume Initial volume level (only useful for getLastVolume() as specified with each call)
@@ -45,16 +47,35 @@ public class PcmVolumeProcessor {
     applyCurrentVolume(buffer);
   }
 
+  /**
+   * Selects a volume level for samples which are scaled by the caller instead of this processor.
+   *
+   * @param targetVolume The target volume of the samples
+   * @return Multiplier to apply to samples at volume level 100 to get them to the target volume. Volume 0 is not
+   *         applied to samples, so the multiplier for that is 1.
+   */
+  public float prepareMultiplier(int targetVolume) {
+    if (targetVolume == 0) {
+      currentVolume = 0;
+      return 1.0f;
+    }
+
+    setupMultipliers(targetVolume);
+    return targetVolume == 100 ? 1.0f : floatMultiplier;
+  }
+
   private void setupMultipliers(int activeVolume) {
     if (currentVolume != activeVolume) {
       currentVolume = activeVolume;
 
       if (activeVolume <= 150) {
-        float floatMultiplier = (float) Math.tan(activeVolume * 0.0079f);
-        integerMultiplier = (int) (floatMultiplier * 10000);
+        float curveMultiplier = (float) Math.tan(activeVolume * 0.0079f);
+        integerMultiplier = (int) (curveMultiplier * 10000);
       } else {
         integerMultiplier = 24621 * activeVolume / 150;
       }
+
+      floatMultiplier = integerMultiplier / 10000.0f;
     }
   }
 
@@ -63,12 +84,7 @@ public class PcmVolumeProcessor {
       return;
     }
 
-    int endOffset = buffer.limit();
-
-    for (int i = buffer.position(); i < endOffset; i++) {
-      int value = buffer.get(i) * integerMultiplier / 10000;
-      buffer.put(i, (short) Math.max(-32767, Math.min(32767, value)));
-    }
+    applyMultiplier(buffer, floatMultiplier);
   }
 
   private void unapplyCurrentVolume(ShortBuffer buffer) {
@@ -76,11 +92,31 @@ public class PcmVolumeProcessor {
       return;
     }
 
-    int endOffset = buffer.limit();
+    applyMultiplier(buffer, 1.0f / floatMultiplier);
+  }
+
+  /**
+   * @param buffer The buffer containing the samples, the samples from position to limit are scaled in place
+   * @param multiplier Multiplier to scale the samples by
+   */
+  public void applyMultiplier(ShortBuffer buffer, float multiplier) {
+    int position = buffer.position();
+    int length = buffer.remaining();
 
-    for (int i = buffer.position(); i < endOffset; i++) {
-      int value = buffer.get(i) * 10000 / integerMultiplier;
-      buffer.put(i, (short) Math.max(-32767, Math.min(32767, value)));
+    if (samples.length < length) {
+      samples = new short[length];
     }
+
+    // Work on a heap array, per-element access to a direct buffer keeps the JIT from vectorising the loop.
+    buffer.get(samples, 0, length);
+
+    for (int i = 0; i < length; i++) {
+      int value = (int) (samples[i] * multiplier);
+      samples[i] = (short) Math.max(-32767, Math.min(32767, value));
+    }
+
+    buffer.position(position);
+    buffer.put(samples, 0, length);
+    buffer.position(position);
   }
 }
@@ -1,15 +1,23 @@
 package com.sedmelluq.discord.lavaplayer.filter.volume;
 
 import com.sedmelluq.discord.lavaplayer.filter.AudioPostProcessor;
+import com.sedmelluq.discord.lavaplayer.filter.PcmFilterFactory;
+import com.sedmelluq.discord.lavaplayer.filter.loudness.LoudnessTracker;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioProcessingContext;
 import java.nio.ShortBuffer;
 
 /**
- * Audio chunk post processor to apply selected volume.
+ * Audio chunk post processor to apply selected volume. Can also be used by a filter which scales the samples itself
+ * while filling the chunk, see {@link #startFusedChunk()}. The loudness normalization gain of the track is applied
+ * together with the volume, and the loudness of the output is measured here if it is not yet known and no user filters
+ * change the audio.
  */
 public class VolumePostProcessor implements AudioPostProcessor {
   private final PcmVolumeProcessor volumeProcessor;
   private final AudioProcessingContext context;
+  private final LoudnessTracker loudnessTracker;
+  private final float loudnessGain;
+  private int fusedChunkVolume;
 
   /**
    * @param context Configuration and output information for processing
@@ -17,6 +25,8 @@ public class VolumePostProcessor implements AudioPostProcessor {
   public VolumePostProcessor(AudioProcessingContext context) {
     this.context = context;
     this.volumeProcessor = new PcmVolumeProcessor(context.playerOptions.volumeLevel.get());
+    this.loudnessTracker = context.loudnessTracker;
+    this.loudnessGain = loudnessTracker != null ? loudnessTracker.getGain() : 1.0f;
   }
 
   @Override
@@ -28,15 +38,79 @@ public class VolumePostProcessor implements AudioPostProcessor {
     }
 
     // Volume 0 is stored in the frame with volume 100 buffer
-    if (currentVolume != 0) {
-      volumeProcessor.applyVolume(100, currentVolume, buffer);
-    } else {
-      volumeProcessor.setLastVolume(0);
+    float multiplier = volumeProcessor.prepareMultiplier(currentVolume) * loudnessGain;
+
+    if (multiplier != 1.0f) {
+      volumeProcessor.applyMultiplier(buffer, multiplier);
+    }
+
+    measureLoudness(buffer, multiplier);
+  }
+
+  /**
+   * Called before the first sample of a chunk is written when the volume is applied by the filter filling the chunk.
+   *
+   * @return Multiplier the samples of this chunk should be scaled by
+   */
+  public float startFusedChunk() {
+    int currentVolume = context.playerOptions.volumeLevel.get();
+
+    if (currentVolume != volumeProcessor.getLastVolume()) {
+      AudioFrameVolumeChanger.apply(context);
+    }
+
+    fusedChunkVolume = currentVolume;
+    return volumeProcessor.prepareMultiplier(currentVolume) * loudnessGain;
+  }
+
+  /**
+   * Called with a full chunk which was scaled with the multiplier from {@link #startFusedChunk()}. Corrects the chunk
+   * if the volume was changed while it was being filled.
+   *
+   * @param buffer The chunk samples
+   */
+  public void finishFusedChunk(ShortBuffer buffer) {
+    int currentVolume = context.playerOptions.volumeLevel.get();
+
+    if (currentVolume != fusedChunkVolume) {
+      AudioFrameVolumeChanger.apply(context);
+
+      // Volume 0 is stored in the frame with volume 100 buffer
+      int appliedVolume = fusedChunkVolume != 0 ? fusedChunkVolume : 100;
+
+      if (currentVolume != 0) {
+        volumeProcessor.applyVolume(appliedVolume, currentVolume, buffer);
+      } else {
+        volumeProcessor.applyVolume(appliedVolume, 100, buffer);
+        volumeProcessor.setLastVolume(0);
+      }
+    }
+
+    if (loudnessTracker != null) {
+      measureLoudness(buffer, volumeProcessor.prepareMultiplier(currentVolume) * loudnessGain);
+    }
+  }
+
+  /**
+   * Called when the following chunks do not continue from the previous ones.
+   */
+  public void seekPerformed() {
+    if (loudnessTracker != null) {
+      loudnessTracker.discontinuity();
+    }
+  }
+
+  private void measureLoudness(ShortBuffer buffer, float multiplier) {
+    if (loudnessTracker != null) {
+      PcmFilterFactory factory = context.playerOptions.filterFactory.get();
+      boolean filtersActive = factory != null && !factory.isIdentity(context.outputFormat);
+
+      loudnessTracker.measure(buffer, multiplier, filtersActive);
     }
   }
 
   @Override
   public void close() {
-    // Nothing to close here
+    // The measured loudness is stored by the track executor when the playback ends, pipelines may be rebuilt before
   }
 }
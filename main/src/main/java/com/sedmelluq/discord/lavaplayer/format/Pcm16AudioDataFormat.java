@@ -28,6 +28,13 @@ public class Pcm16AudioDataFormat extends AudioDataFormat {
     this.silenceBytes = new byte[channelCount * chunkSampleCount * 2];
   }
 
+  /**
+   * @return Whether the samples are in big-endian format (as opposed to little-endian).
+   */
+  public boolean isBigEndian() {
+    return bigEndian;
+  }
+
   @Override
   public String codecName() {
     return CODEC_NAME_BE;
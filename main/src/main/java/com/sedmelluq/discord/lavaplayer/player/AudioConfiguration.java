@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
+import com.sedmelluq.discord.lavaplayer.filter.loudness.LoudnessNormalizer;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats;
 import com.sedmelluq.discord.lavaplayer.track.playback.AllocatingAudioFrameBuffer;
@@ -16,6 +17,7 @@ public class AudioConfiguration {
   private volatile AudioDataFormat outputFormat;
   private volatile boolean filterHotSwapEnabled;
   private volatile AudioFrameBufferFactory frameBufferFactory;
+  private volatile LoudnessNormalizer loudnessNormalizer;
 
   /**
    * Create a new configuration with default values.
@@ -26,6 +28,7 @@ public class AudioConfiguration {
     outputFormat = StandardAudioDataFormats.DISCORD_OPUS;
     filterHotSwapEnabled = false;
     frameBufferFactory = AllocatingAudioFrameBuffer::new;
+    loudnessNormalizer = null;
   }
 
   public ResamplingQuality getResamplingQuality() {
@@ -68,6 +71,18 @@ public class AudioConfiguration {
     this.frameBufferFactory = frameBufferFactory;
   }
 
+  public LoudnessNormalizer getLoudnessNormalizer() {
+    return loudnessNormalizer;
+  }
+
+  /**
+   * @param loudnessNormalizer Normalizer to bring tracks to the same loudness, null to disable loudness normalization.
+   *                           Applies to tracks started after setting it.
+   */
+  public void setLoudnessNormalizer(LoudnessNormalizer loudnessNormalizer) {
+    this.loudnessNormalizer = loudnessNormalizer;
+  }
+
   /**
    * @return A copy of this configuration.
    */
@@ -78,6 +93,7 @@ public class AudioConfiguration {
     copy.setOutputFormat(outputFormat);
     copy.setFilterHotSwapEnabled(filterHotSwapEnabled);
     copy.setFrameBufferFactory(frameBufferFactory);
+    copy.setLoudnessNormalizer(loudnessNormalizer);
     return copy;
   }
 
@@ -87,6 +103,12 @@ public class AudioConfiguration {
   public enum ResamplingQuality {
     HIGH,
     MEDIUM,
-    LOW
+    LOW,
+    /**
+     * Resampling implemented in Java using precomputed polyphase filter tables shared between all players. Keeps about
+     * 90% of the bandwidth with roughly 80 dB of stopband attenuation. For sample rate pairs which would require too
+     * large tables, the native resampler is used with HIGH quality instead.
+     */
+    POLYPHASE
   }
 }
@@ -4,10 +4,13 @@ import com.sedmelluq.discord.lavaplayer.remote.RemoteNodeRegistry;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.DecodedTrackHolder;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -107,6 +110,30 @@ public interface AudioPlayerManager {
    */
   Future<Void> loadItemOrdered(Object orderingKey, final AudioReference reference, final AudioLoadResultHandler resultHandler);
 
+  /**
+   * Loads a track or playlist with the specified identifier asynchronously.
+   * @param identifier The identifier that a specific source manager should be able to find the track with.
+   * @return A future which completes with the loaded track or playlist, with {@link AudioReference#NO_TRACK} if nothing
+   *         was found, or exceptionally with a {@link com.sedmelluq.discord.lavaplayer.tools.FriendlyException}.
+   * @see #loadItemAsync(AudioReference)
+   */
+  default CompletableFuture<AudioItem> loadItemAsync(final String identifier) {
+    return loadItemAsync(new AudioReference(identifier, null));
+  }
+
+  /**
+   * Loads a track or playlist with the specified identifier asynchronously. Unlike with
+   * {@link #loadItem(AudioReference, AudioLoadResultHandler)}, no loader thread is held while a source manager which
+   * supports {@link AudioSourceManager#loadItemAsync} is waiting for a response.
+   *
+   * @param reference The audio reference that holds the identifier that a specific source manager
+   *                  should be able to find the track with.
+   * @return A future which completes with the loaded track or playlist, with {@link AudioReference#NO_TRACK} if nothing
+   *         was found, or exceptionally with a {@link com.sedmelluq.discord.lavaplayer.tools.FriendlyException}.
+   * @see #loadItemAsync(String)
+   */
+  CompletableFuture<AudioItem> loadItemAsync(final AudioReference reference);
+
   /**
    * Encode a track into an output stream. If the decoder is not supposed to know the number of tracks in advance, then
    * the encoder should call MessageOutput#finish() after all the tracks it wanted to write have been written. This will
@@ -128,6 +155,28 @@ public interface AudioPlayerManager {
    */
   DecodedTrackHolder decodeTrack(MessageInput stream) throws IOException;
 
+  /**
+   * Encode a list of tracks into one message of an output stream. Strings which occur multiple times in the tracks are
+   * only written once, which makes this considerably more compact than encoding each track separately. The message
+   * can only be decoded with {@link #decodeTracks(MessageInput)}.
+   *
+   * @param stream The message stream to write it to.
+   * @param tracks The tracks to encode.
+   * @throws IOException On IO error.
+   */
+  void encodeTracks(MessageOutput stream, List<AudioTrack> tracks) throws IOException;
+
+  /**
+   * Decode the tracks from the next message of an input stream. Messages written by
+   * {@link #encodeTrack(MessageOutput, AudioTrack)} are also supported, they are decoded as a list of one track. Null
+   * return value indicates reaching the position where the encoder had called MessageOutput#finish().
+   *
+   * @param stream The message stream to read it from.
+   * @return Holders for the decoded tracks, in the order they were encoded in.
+   * @throws IOException On IO error.
+   */
+  List<DecodedTrackHolder> decodeTracks(MessageInput stream) throws IOException;
+
   /**
    * @return Audio processing configuration used for tracks executed by this manager.
    */
@@ -12,15 +12,18 @@ import com.sedmelluq.discord.lavaplayer.player.event.TrackStuckEvent;
 import com.sedmelluq.discord.lavaplayer.tools.CopyOnUpdateIdentityList;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason;
 import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.PreparableAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.TrackStateListener;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProviderTools;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioTrackExecutor;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
 import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,15 +38,27 @@ import static com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason.STOPPED
 
 /**
  * An audio player that is capable of playing audio tracks and provides audio frames from the currently playing track.
+ * A next track can be queued in the player with {@link #setNextTrack(AudioTrack)}, which allows switching to it without
+ * a gap, or crossfading into it when a crossfade duration is set.
  */
 public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
   private static final Logger log = LoggerFactory.getLogger(AudioPlayer.class);
 
+  private static final long NEXT_TRACK_PREFETCH_LEAD = 10000;
+  private static final long NEXT_TRACK_PREPARE_LIFETIME = TimeUnit.MINUTES.toMillis(10);
+
   private volatile InternalAudioTrack activeTrack;
   private volatile long lastRequestTime;
   private volatile long lastReceiveTime;
   private volatile boolean stuckEventSent;
   private volatile InternalAudioTrack shadowTrack;
+  private volatile boolean activeTrackMixable;
+  private volatile NextTrack nextTrack;
+  private volatile FadingTrack fadingTrack;
+  private volatile int crossfadeDuration;
+  private volatile TrackTransitionMixer transitionMixer;
+  private MutableAudioFrame mixedFrame;
+  private int mixedFrameSize;
   private final AtomicBoolean paused;
   private final DefaultAudioPlayerManager manager;
   private final CopyOnUpdateIdentityList<AudioEventListener> listeners;
@@ -84,15 +99,31 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
   public boolean startTrack(AudioTrack track, boolean noInterrupt) {
     InternalAudioTrack newTrack = (InternalAudioTrack) track;
     InternalAudioTrack previousTrack;
+    boolean mixable = crossfadeDuration > 0;
+    boolean previousMixable;
+    boolean alreadyStarted = false;
 
     synchronized (trackSwitchLock) {
       previousTrack = activeTrack;
+      previousMixable = activeTrackMixable;
 
       if (noInterrupt && previousTrack != null) {
         return false;
       }
 
+      NextTrack next = nextTrack;
+
+      if (next != null && next.track == newTrack) {
+        // Keep what has already been loaded of the next track instead of stopping it
+        nextTrack = null;
+        alreadyStarted = next.started;
+        mixable = alreadyStarted ? next.mixable : mixable;
+      }
+
+      cancelTransitions();
+
       activeTrack = newTrack;
+      activeTrackMixable = mixable;
       lastRequestTime = System.currentTimeMillis();
       lastReceiveTime = System.nanoTime();
       stuckEventSent = false;
@@ -101,7 +132,8 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
         previousTrack.stop();
         dispatchEvent(new TrackEndEvent(this, previousTrack, newTrack == null ? STOPPED : REPLACED));
 
-        shadowTrack = previousTrack;
+        // Frames of a mixable track are PCM, those cannot be passed on as they are
+        shadowTrack = previousMixable ? null : previousTrack;
       }
     }
 
@@ -112,7 +144,240 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
 
     dispatchEvent(new TrackStartEvent(this, newTrack));
 
-    manager.executeTrack(this, newTrack, manager.getConfiguration(), options);
+    if (!alreadyStarted) {
+      executeTrack(newTrack, mixable);
+    }
+
+    return true;
+  }
+
+  private void executeTrack(InternalAudioTrack track, boolean mixable) {
+    AudioConfiguration configuration = manager.getConfiguration();
+
+    if (mixable) {
+      configuration = TrackTransitionMixer.createPcmConfiguration(configuration);
+    }
+
+    manager.executeTrack(this, track, configuration, options);
+  }
+
+  /**
+   * Sets the track to play when the current one ends. If the duration of the current track is known, the next track
+   * starts loading a few seconds before the current one ends, so it can start without a gap, or crossfade with the
+   * current one if a crossfade duration is set. How much of the next track is decoded in advance is limited by its
+   * frame buffer. On the switch, the current track ends with {@link AudioTrackEndReason#REPLACED}, so that event
+   * handlers do not start another track, and a start event is sent for the next track.
+   *
+   * Tracks which support it are prepared in the background right away, see {@link PreparableAudioTrack}, and
+   * {@link #warmUpNextTrack(long)} can be used to start loading the next track earlier than a few seconds before the
+   * current one ends.
+   *
+   * Starting or stopping a track cancels the next track, unless the next track itself is started. If nothing is
+   * playing, the track is started immediately.
+   *
+   * @param track The track to play after the current one, null to cancel the previously set next track
+   */
+  public void setNextTrack(AudioTrack track) {
+    synchronized (trackSwitchLock) {
+      if (activeTrack != null || track == null) {
+        NextTrack previous = nextTrack;
+
+        if (previous != null && previous.track == track) {
+          return;
+        }
+
+        nextTrack = track != null ? new NextTrack((InternalAudioTrack) track) : null;
+
+        if (previous != null) {
+          discardNextTrack(previous);
+        }
+
+        if (track != null) {
+          manager.prepareTrack(track, NEXT_TRACK_PREPARE_LIFETIME);
+        }
+
+        return;
+      }
+    }
+
+    startTrack(track, false);
+  }
+
+  /**
+   * Starts loading the next track set with {@link #setNextTrack(AudioTrack)} right away, instead of a few seconds
+   * before the current track ends. This opens its connection, probes its container and decodes as much of it as fits
+   * in its frame buffer, so switching to it does not have to wait for any of that, also when it is started with
+   * {@link #startTrack(AudioTrack, boolean)} before the current track ends.
+   *
+   * If the player has not switched to it within the given lifetime, it is stopped to release its connection and
+   * replaced with a clone of it as the next track, which is then loaded again a few seconds before the current track
+   * ends.
+   *
+   * @param lifetime Time in milliseconds to keep the loaded next track if the player does not switch to it
+   * @return True if there was a next track to load
+   */
+  public boolean warmUpNextTrack(long lifetime) {
+    synchronized (trackSwitchLock) {
+      NextTrack next = nextTrack;
+
+      if (next == null) {
+        return false;
+      }
+
+      if (!next.started) {
+        next.expirationTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lifetime);
+        startNextTrack(next);
+      }
+
+      return true;
+    }
+  }
+
+  /**
+   * @return The track set to play after the current one, null if there is none
+   */
+  public AudioTrack getNextTrack() {
+    NextTrack next = nextTrack;
+    return next != null ? next.track : null;
+  }
+
+  /**
+   * Sets the duration of the crossfade between the current track and the next one set with
+   * {@link #setNextTrack(AudioTrack)}. With crossfading enabled, tracks are decoded to PCM and the player encodes the
+   * output itself, mixing both tracks during the transition, so the current track cannot be passed through without
+   * decoding. This takes effect for tracks which are started after changing it.
+   *
+   * @param duration Duration of the crossfade in milliseconds, 0 to disable crossfading
+   */
+  public void setCrossfadeDuration(int duration) {
+    crossfadeDuration = Math.max(0, duration);
+  }
+
+  /**
+   * @return Duration of the crossfade in milliseconds, 0 if crossfading is disabled
+   */
+  public int getCrossfadeDuration() {
+    return crossfadeDuration;
+  }
+
+  private void cancelTransitions() {
+    NextTrack next = nextTrack;
+    FadingTrack fading = fadingTrack;
+
+    nextTrack = null;
+    fadingTrack = null;
+
+    if (next != null) {
+      discardNextTrack(next);
+    }
+
+    if (fading != null) {
+      fading.track.stop();
+    }
+  }
+
+  private void checkNextTrack(InternalAudioTrack track) {
+    NextTrack next = nextTrack;
+
+    if (next == null) {
+      return;
+    }
+
+    long duration = track.getDuration();
+    long remaining = duration != Units.DURATION_MS_UNKNOWN ? duration - track.getPosition() : Long.MAX_VALUE;
+    int crossfade = crossfadeDuration;
+    boolean nearEnd = remaining <= crossfade + NEXT_TRACK_PREFETCH_LEAD;
+
+    if (!nearEnd && next.hasExpired()) {
+      expireNextTrack(next);
+      return;
+    }
+
+    if (!next.started && nearEnd) {
+      synchronized (trackSwitchLock) {
+        if (nextTrack == next) {
+          startNextTrack(next);
+        }
+      }
+    }
+
+    if (crossfade > 0 && remaining <= crossfade && next.started && next.mixable && activeTrackMixable) {
+      switchToNextTrack(track, next, Math.max(remaining, 0));
+    }
+  }
+
+  private void startNextTrack(NextTrack next) {
+    if (!next.started) {
+      next.started = true;
+      next.mixable = crossfadeDuration > 0;
+
+      executeTrack(next.track, next.mixable);
+    }
+  }
+
+  private void expireNextTrack(NextTrack next) {
+    AudioTrack clone;
+
+    try {
+      clone = next.track.makeClone();
+    } catch (UnsupportedOperationException e) {
+      // Cannot be loaded again later, so keep it loaded
+      next.expirationTime = 0;
+      return;
+    }
+
+    synchronized (trackSwitchLock) {
+      if (nextTrack != next) {
+        return;
+      }
+
+      nextTrack = new NextTrack((InternalAudioTrack) clone);
+    }
+
+    log.debug("Next track {} was loaded in advance but not started in time, unloading it.", next.track.getIdentifier());
+
+    next.track.stop();
+    manager.prepareTrack(clone, NEXT_TRACK_PREPARE_LIFETIME);
+  }
+
+  private static void discardNextTrack(NextTrack next) {
+    if (next.started) {
+      next.track.stop();
+    } else if (next.track instanceof PreparableAudioTrack) {
+      ((PreparableAudioTrack) next.track).discardPrepared();
+    }
+  }
+
+  private boolean switchToNextTrack(InternalAudioTrack previousTrack, NextTrack next, long fadeDuration) {
+    synchronized (trackSwitchLock) {
+      if (activeTrack != previousTrack || nextTrack != next) {
+        return false;
+      }
+
+      startNextTrack(next);
+
+      FadingTrack previousFading = fadingTrack;
+
+      nextTrack = null;
+      activeTrack = next.track;
+      activeTrackMixable = next.mixable;
+      fadingTrack = fadeDuration > 0 ? new FadingTrack(previousTrack, fadeDuration) : null;
+      lastReceiveTime = System.nanoTime();
+      stuckEventSent = false;
+      shadowTrack = null;
+
+      if (previousFading != null) {
+        previousFading.track.stop();
+      }
+
+      if (fadingTrack == null) {
+        previousTrack.stop();
+      }
+
+      dispatchEvent(new TrackEndEvent(this, previousTrack, REPLACED));
+    }
+
+    dispatchEvent(new TrackStartEvent(this, next.track));
     return true;
   }
 
@@ -130,6 +395,8 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
       InternalAudioTrack previousTrack = activeTrack;
       activeTrack = null;
 
+      cancelTransitions();
+
       if (previousTrack != null) {
         previousTrack.stop();
         dispatchEvent(new TrackEndEvent(this, previousTrack, reason));
@@ -184,6 +451,12 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     }
 
     while ((track = activeTrack) != null) {
+      if (activeTrackMixable) {
+        return provideMixedFrozen(timeout, unit);
+      }
+
+      checkNextTrack(track);
+
       AudioFrame frame = timeout > 0 ? track.provide(timeout, unit) : track.provide();
 
       if (frame != null) {
@@ -229,19 +502,24 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     }
 
     while ((track = activeTrack) != null) {
-      if (timeout > 0 ? track.provide(targetFrame, timeout, unit) : track.provide(targetFrame)) {
+      checkNextTrack(track);
+
+      boolean mixable = activeTrackMixable;
+      MutableAudioFrame frame = mixable ? getTransitionMixer().getPrimaryFrame() : targetFrame;
+
+      if (timeout > 0 ? track.provide(frame, timeout, unit) : track.provide(frame)) {
         lastReceiveTime = System.nanoTime();
         shadowTrack = null;
 
-        if (targetFrame.isTerminator()) {
+        if (frame.isTerminator()) {
           handleTerminator(track);
           continue;
         }
 
-        return true;
+        return !mixable || provideMixedFrame(true, targetFrame);
       } else if (timeout == 0) {
         checkStuck(track);
-        return provideShadowFrame(targetFrame);
+        return mixable ? provideMixedFrame(false, targetFrame) : provideShadowFrame(targetFrame);
       } else {
         return false;
       }
@@ -250,7 +528,92 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
     return false;
   }
 
+  private AudioFrame provideMixedFrozen(long timeout, TimeUnit unit) throws TimeoutException, InterruptedException {
+    int chunkSize = manager.getConfiguration().getOutputFormat().maximumChunkSize();
+    MutableAudioFrame frame = mixedFrame;
+
+    // Frozen frames copy the data, so the same buffer can be reused for every frame
+    if (frame == null || mixedFrameSize < chunkSize) {
+      frame = new MutableAudioFrame();
+      frame.setBuffer(ByteBuffer.allocate(chunkSize));
+      mixedFrame = frame;
+      mixedFrameSize = chunkSize;
+    }
+
+    return provide(frame, timeout, unit) ? frame.freeze() : null;
+  }
+
+  private boolean provideMixedFrame(boolean hasPrimary, MutableAudioFrame targetFrame) {
+    TrackTransitionMixer mixer = getTransitionMixer();
+    FadingTrack fading = fadingTrack;
+
+    if (fading == null) {
+      return mixer.mix(manager.getConfiguration(), hasPrimary, 1.0f, 1.0f, false, 0.0f, 0.0f, targetFrame);
+    }
+
+    MutableAudioFrame secondaryFrame = mixer.getSecondaryFrame();
+    boolean hasSecondary = fading.track.provide(secondaryFrame);
+
+    if (hasSecondary && secondaryFrame.isTerminator()) {
+      hasSecondary = false;
+      endFading(fading);
+    }
+
+    if (!hasPrimary && !hasSecondary) {
+      return false;
+    }
+
+    float startProgress = fading.getProgress();
+    fading.elapsed += manager.getConfiguration().getOutputFormat().frameDuration();
+    float endProgress = fading.getProgress();
+
+    if (endProgress >= 1.0f) {
+      endFading(fading);
+    }
+
+    // Equal power crossfade, keeps the loudness steady for uncorrelated signals
+    return mixer.mix(manager.getConfiguration(), hasPrimary, fadeInGain(startProgress), fadeInGain(endProgress),
+        hasSecondary, fadeInGain(1.0f - startProgress), fadeInGain(1.0f - endProgress), targetFrame);
+  }
+
+  private static float fadeInGain(float progress) {
+    return (float) Math.sin(progress * Math.PI / 2);
+  }
+
+  private void endFading(FadingTrack fading) {
+    synchronized (trackSwitchLock) {
+      if (fadingTrack == fading) {
+        fadingTrack = null;
+      }
+    }
+
+    fading.track.stop();
+  }
+
+  private TrackTransitionMixer getTransitionMixer() {
+    TrackTransitionMixer mixer = transitionMixer;
+
+    if (mixer == null) {
+      synchronized (trackSwitchLock) {
+        mixer = transitionMixer;
+
+        if (mixer == null) {
+          mixer = TrackTransitionMixer.create(manager.getConfiguration());
+          transitionMixer = mixer;
+        }
+      }
+    }
+
+    return mixer;
+  }
+
   private void handleTerminator(InternalAudioTrack track) {
+    NextTrack next = nextTrack;
+
+    if (next != null && !track.getActiveExecutor().failedBeforeLoad() && switchToNextTrack(track, next, 0)) {
+      return;
+    }
+
     synchronized (trackSwitchLock) {
       if (activeTrack == track) {
         activeTrack = null;
@@ -329,6 +692,17 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
    */
   public void destroy() {
     stopTrack();
+
+    TrackTransitionMixer mixer;
+
+    synchronized (trackSwitchLock) {
+      mixer = transitionMixer;
+      transitionMixer = null;
+    }
+
+    if (mixer != null) {
+      mixer.close();
+    }
   }
 
   /**
@@ -387,4 +761,35 @@ public class DefaultAudioPlayer implements AudioPlayer, TrackStateListener {
       stopWithReason(CLEANUP);
     }
   }
+
+  private static class NextTrack {
+    private final InternalAudioTrack track;
+    private volatile boolean started;
+    private volatile boolean mixable;
+    private volatile long expirationTime;
+
+    private NextTrack(InternalAudioTrack track) {
+      this.track = track;
+    }
+
+    private boolean hasExpired() {
+      long expiration = expirationTime;
+      return expiration != 0 && expiration - System.nanoTime() <= 0;
+    }
+  }
+
+  private static class FadingTrack {
+    private final InternalAudioTrack track;
+    private final long duration;
+    private long elapsed;
+
+    private FadingTrack(InternalAudioTrack track, long duration) {
+      this.track = track;
+      this.duration = duration;
+    }
+
+    private float getProgress() {
+      return Math.min(1.0f, (float) elapsed / duration);
+    }
+  }
 }
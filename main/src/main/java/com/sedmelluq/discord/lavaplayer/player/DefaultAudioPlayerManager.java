@@ -1,5 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.player;
 
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemCache;
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemCacheTools;
 import com.sedmelluq.discord.lavaplayer.remote.RemoteAudioTrackExecutor;
 import com.sedmelluq.discord.lavaplayer.remote.RemoteNodeManager;
 import com.sedmelluq.discord.lavaplayer.remote.RemoteNodeRegistry;
@@ -10,6 +12,7 @@ import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.GarbageCollectionMonitor;
 import com.sedmelluq.discord.lavaplayer.tools.OrderedExecutor;
+import com.sedmelluq.discord.lavaplayer.tools.Units;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput;
 import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput;
@@ -19,7 +22,9 @@ import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DecodedTrackHolder;
+import com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.InternalAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.PreparableAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.TrackStateListener;
 import com.sedmelluq.discord.lavaplayer.track.playback.AudioTrackExecutor;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
@@ -32,11 +37,20 @@ import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -62,6 +76,13 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 public class DefaultAudioPlayerManager implements AudioPlayerManager {
   private static final int TRACK_INFO_VERSIONED = 1;
   private static final int TRACK_INFO_VERSION = 2;
+  private static final int TRACK_INFO_BATCH = 2;
+  private static final int TRACK_BATCH_VERSION = 1;
+  private static final int TRACK_BATCH_STREAM = 1;
+  private static final int TRACK_BATCH_UNKNOWN_LENGTH = 2;
+  private static final int TRACK_BATCH_URI = 4;
+  private static final int TRACK_BATCH_URI_WITH_IDENTIFIER = 8;
+  private static final int TRACK_BATCH_POSITION = 16;
 
   private static final int DEFAULT_FRAME_BUFFER_DURATION = (int) TimeUnit.SECONDS.toMillis(5);
   private static final int DEFAULT_CLEANUP_THRESHOLD = (int) TimeUnit.MINUTES.toMillis(1);
@@ -73,6 +94,8 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
   private static final Logger log = LoggerFactory.getLogger(DefaultAudioPlayerManager.class);
 
   private final List<AudioSourceManager> sourceManagers;
+  private final ConcurrentMap<String, CompletableFuture<AudioItem>> sharedLoads;
+  private volatile AudioItemCache itemCache;
   private volatile Function<RequestConfig, RequestConfig> httpConfigurator;
   private volatile Consumer<HttpClientBuilder> httpBuilderConfigurator;
 
@@ -100,6 +123,7 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
    */
   public DefaultAudioPlayerManager() {
     sourceManagers = new ArrayList<>();
+    sharedLoads = new ConcurrentHashMap<>();
 
     // Executors
     trackPlaybackExecutorService = new ThreadPoolExecutor(1, Integer.MAX_VALUE, 10, TimeUnit.SECONDS,
@@ -209,6 +233,109 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     return ExecutorTools.COMPLETED_VOID;
   }
 
+  @Override
+  public CompletableFuture<AudioItem> loadItemAsync(final AudioReference reference) {
+    AudioItemCache cache = itemCache;
+    String cacheKey = cache != null ? AudioItemCacheTools.createKey(reference) : null;
+    AudioItem cached = cacheKey != null ? cache.getItem(cacheKey) : null;
+    AudioItem clone = cached != null ? AudioItemCacheTools.cloneItem(cached) : null;
+    CompletableFuture<AudioItem> result;
+
+    try {
+      if (clone != null) {
+        log.debug("Loaded an item with identifier {} from cache.", reference.identifier);
+        result = CompletableFuture.completedFuture(clone);
+      } else {
+        result = loadItemFromSourcesAsync(reference, 0).thenApply(loaded -> {
+          if (loaded == null) {
+            log.debug("No matches for track with identifier {}.", reference.identifier);
+            return AudioReference.NO_TRACK;
+          }
+
+          if (cacheKey != null) {
+            AudioItem pristine = AudioItemCacheTools.cloneItem(loaded.item);
+
+            if (pristine != null) {
+              cache.putItem(cacheKey, pristine, loaded.sourceManager);
+            }
+          }
+
+          return loaded.item;
+        });
+      }
+    } catch (RejectedExecutionException e) {
+      result = new CompletableFuture<>();
+      result.completeExceptionally(e);
+    }
+
+    CompletableFuture<AudioItem> friendlyResult = new CompletableFuture<>();
+
+    result.whenComplete((item, throwable) -> {
+      if (throwable == null) {
+        friendlyResult.complete(item);
+      } else {
+        friendlyResult.completeExceptionally(createItemLoadFailure(reference.identifier, throwable));
+      }
+    });
+
+    return friendlyResult;
+  }
+
+  private FriendlyException createItemLoadFailure(String identifier, Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+        throwable.getCause() : throwable;
+
+    FriendlyException exception;
+
+    if (cause instanceof RejectedExecutionException) {
+      exception = new FriendlyException("Cannot queue loading a track, queue is full.", SUSPICIOUS, cause);
+    } else {
+      exception = ExceptionTools.wrapUnfriendlyExceptions("Something went wrong when looking up the track", FAULT, cause);
+    }
+
+    ExceptionTools.log(log, exception, "loading item " + identifier);
+    return exception;
+  }
+
+  private CompletableFuture<LoadedItem> loadItemFromSourcesAsync(AudioReference reference, int redirects) {
+    if (redirects >= MAXIMUM_LOAD_REDIRECTS || reference.identifier == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return checkSourcesForItemAsync(reference, 0).thenCompose(loaded -> {
+      if (loaded != null && loaded.item instanceof AudioReference) {
+        return loadItemFromSourcesAsync((AudioReference) loaded.item, redirects + 1);
+      }
+
+      return CompletableFuture.completedFuture(loaded);
+    });
+  }
+
+  private CompletableFuture<LoadedItem> checkSourcesForItemAsync(AudioReference reference, int sourceIndex) {
+    for (int i = sourceIndex; i < sourceManagers.size(); i++) {
+      AudioSourceManager sourceManager = sourceManagers.get(i);
+
+      if (reference.containerDescriptor != null && !(sourceManager instanceof ProbingAudioSourceManager)) {
+        continue;
+      }
+
+      int nextIndex = i + 1;
+
+      return sourceManager.loadItemAsync(this, reference, trackInfoExecutorService).thenCompose(item -> {
+        if (item == null) {
+          return checkSourcesForItemAsync(reference, nextIndex);
+        }
+
+        log.debug("Loaded an item with identifier {} using {}.", reference.identifier,
+            sourceManager.getClass().getSimpleName());
+
+        return CompletableFuture.completedFuture(new LoadedItem(item, sourceManager));
+      }).toCompletableFuture();
+    }
+
+    return CompletableFuture.completedFuture(null);
+  }
+
   private Callable<Void> createItemLoader(final AudioReference reference, final AudioLoadResultHandler resultHandler) {
     return () -> {
       boolean[] reported = new boolean[1];
@@ -263,8 +390,15 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     DataInput input = stream.nextMessage();
     if (input == null) {
       return null;
+    } else if ((stream.getMessageFlags() & TRACK_INFO_BATCH) != 0) {
+      stream.skipRemainingBytes();
+      throw new IOException("Message contains a batch of tracks, it can only be decoded with decodeTracks.");
     }
 
+    return decodeTrackMessage(stream, input);
+  }
+
+  private DecodedTrackHolder decodeTrackMessage(MessageInput stream, DataInput input) throws IOException {
     int version = (stream.getMessageFlags() & TRACK_INFO_VERSIONED) != 0 ? (input.readByte() & 0xFF) : 1;
 
     AudioTrackInfo trackInfo = new AudioTrackInfo(input.readUTF(), input.readUTF(), input.readLong(), input.readUTF(),
@@ -281,6 +415,172 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     return new DecodedTrackHolder(track);
   }
 
+  @Override
+  public void encodeTracks(MessageOutput stream, List<AudioTrack> tracks) throws IOException {
+    DataOutput output = stream.startMessage();
+    output.write(TRACK_BATCH_VERSION);
+    DataFormatTools.writeVarLong(output, tracks.size());
+
+    Map<String, Integer> dictionary = new HashMap<>();
+    ByteArrayOutputStream detailsBytes = new ByteArrayOutputStream();
+    DataOutput detailsOutput = new DataOutputStream(detailsBytes);
+
+    for (AudioTrack track : tracks) {
+      AudioTrackInfo trackInfo = track.getInfo();
+      AudioSourceManager sourceManager = track.getSourceManager();
+      long position = track.getPosition();
+
+      boolean uriWithIdentifier = trackInfo.uri != null && trackInfo.identifier != null &&
+          trackInfo.uri.endsWith(trackInfo.identifier);
+
+      output.write((trackInfo.isStream ? TRACK_BATCH_STREAM : 0) |
+          (trackInfo.length == Units.DURATION_MS_UNKNOWN ? TRACK_BATCH_UNKNOWN_LENGTH : 0) |
+          (trackInfo.uri != null ? TRACK_BATCH_URI : 0) |
+          (uriWithIdentifier ? TRACK_BATCH_URI_WITH_IDENTIFIER : 0) |
+          (position != 0 ? TRACK_BATCH_POSITION : 0));
+
+      writeBatchText(output, dictionary, trackInfo.title);
+      writeBatchText(output, dictionary, trackInfo.author);
+      writeBatchText(output, dictionary, trackInfo.identifier);
+
+      if (uriWithIdentifier) {
+        // Most URIs are a common prefix followed by the identifier, so only the prefix goes to the dictionary
+        writeBatchText(output, dictionary,
+            trackInfo.uri.substring(0, trackInfo.uri.length() - trackInfo.identifier.length()));
+      } else if (trackInfo.uri != null) {
+        writeBatchText(output, dictionary, trackInfo.uri);
+      }
+
+      if (trackInfo.length != Units.DURATION_MS_UNKNOWN) {
+        DataFormatTools.writeVarLong(output, (trackInfo.length << 1) ^ (trackInfo.length >> 63));
+      }
+
+      if (position != 0) {
+        DataFormatTools.writeVarLong(output, position);
+      }
+
+      detailsBytes.reset();
+      sourceManager.encodeTrack(track, detailsOutput);
+
+      // The size allows skipping the details of tracks from sources which are not registered when decoding
+      writeBatchText(output, dictionary, sourceManager.getSourceName());
+      DataFormatTools.writeVarLong(output, detailsBytes.size());
+      output.write(detailsBytes.toByteArray());
+    }
+
+    stream.commitMessage(TRACK_INFO_BATCH);
+  }
+
+  private static void writeBatchText(DataOutput output, Map<String, Integer> dictionary, String text)
+      throws IOException {
+
+    if (text == null) {
+      DataFormatTools.writeVarLong(output, 0);
+      return;
+    }
+
+    Integer index = dictionary.get(text);
+
+    if (index != null) {
+      DataFormatTools.writeVarLong(output, index + 2);
+    } else {
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+      DataFormatTools.writeVarLong(output, 1);
+      DataFormatTools.writeVarLong(output, bytes.length);
+      output.write(bytes);
+
+      dictionary.put(text, dictionary.size());
+    }
+  }
+
+  @Override
+  public List<DecodedTrackHolder> decodeTracks(MessageInput stream) throws IOException {
+    DataInput input = stream.nextMessage();
+    if (input == null) {
+      return null;
+    } else if ((stream.getMessageFlags() & TRACK_INFO_BATCH) == 0) {
+      return Collections.singletonList(decodeTrackMessage(stream, input));
+    }
+
+    int version = input.readUnsignedByte();
+
+    if (version != TRACK_BATCH_VERSION) {
+      stream.skipRemainingBytes();
+      throw new IOException("Unsupported track batch version " + version);
+    }
+
+    int trackCount = (int) DataFormatTools.readVarLong(input);
+    List<DecodedTrackHolder> tracks = new ArrayList<>(trackCount);
+    List<String> dictionary = new ArrayList<>();
+    DetailsInputStream detailsStream = new DetailsInputStream();
+    DataInput detailsInput = new DataInputStream(detailsStream);
+
+    for (int i = 0; i < trackCount; i++) {
+      int flags = input.readUnsignedByte();
+      String title = readBatchText(input, dictionary);
+      String author = readBatchText(input, dictionary);
+      String identifier = readBatchText(input, dictionary);
+      String uri = null;
+
+      if ((flags & TRACK_BATCH_URI_WITH_IDENTIFIER) != 0) {
+        uri = readBatchText(input, dictionary) + identifier;
+      } else if ((flags & TRACK_BATCH_URI) != 0) {
+        uri = readBatchText(input, dictionary);
+      }
+
+      long length = Units.DURATION_MS_UNKNOWN;
+
+      if ((flags & TRACK_BATCH_UNKNOWN_LENGTH) == 0) {
+        long encodedLength = DataFormatTools.readVarLong(input);
+        length = (encodedLength >>> 1) ^ -(encodedLength & 1);
+      }
+
+      long position = (flags & TRACK_BATCH_POSITION) != 0 ? DataFormatTools.readVarLong(input) : 0;
+      String sourceName = readBatchText(input, dictionary);
+      int detailsSize = (int) DataFormatTools.readVarLong(input);
+
+      AudioTrackInfo trackInfo = new AudioTrackInfo(title, author, length, identifier,
+          (flags & TRACK_BATCH_STREAM) != 0, uri);
+      AudioSourceManager sourceManager = findSourceManager(sourceName);
+      AudioTrack track = null;
+
+      // Details are decoded from their own buffer, so a source reading less or more than it wrote cannot misalign
+      // the following tracks
+      detailsStream.load(input, detailsSize);
+
+      if (sourceManager != null) {
+        track = sourceManager.decodeTrack(trackInfo, detailsInput);
+      }
+
+      if (track != null) {
+        track.setPosition(position);
+      }
+
+      tracks.add(new DecodedTrackHolder(track));
+    }
+
+    stream.skipRemainingBytes();
+    return tracks;
+  }
+
+  private static String readBatchText(DataInput input, List<String> dictionary) throws IOException {
+    int reference = (int) DataFormatTools.readVarLong(input);
+
+    if (reference == 0) {
+      return null;
+    } else if (reference >= 2) {
+      return dictionary.get(reference - 2);
+    }
+
+    byte[] bytes = new byte[(int) DataFormatTools.readVarLong(input)];
+    input.readFully(bytes);
+
+    String text = new String(bytes, StandardCharsets.UTF_8);
+    dictionary.add(text);
+    return text;
+  }
+
   /**
    * Encodes an audio track to a byte array. Does not include AudioTrackInfo in the buffer.
    * @param track The track to encode
@@ -321,11 +621,14 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
   }
 
   private AudioTrack decodeTrackDetails(AudioTrackInfo trackInfo, DataInput input) throws IOException {
-    String sourceName = input.readUTF();
+    AudioSourceManager sourceManager = findSourceManager(input.readUTF());
+    return sourceManager != null ? sourceManager.decodeTrack(trackInfo, input) : null;
+  }
 
+  private AudioSourceManager findSourceManager(String sourceName) {
     for (AudioSourceManager sourceManager : sourceManagers) {
-      if (sourceName.equals(sourceManager.getSourceName())) {
-        return sourceManager.decodeTrack(trackInfo, input);
+      if (sourceManager.getSourceName().equals(sourceName)) {
+        return sourceManager;
       }
     }
 
@@ -348,6 +651,39 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     trackPlaybackExecutorService.execute(() -> executor.execute(listener));
   }
 
+  /**
+   * Prepares a track in the background if it supports it, so that starting it later does not have to wait for the
+   * lookups it needs. Failures are only logged, as the track performs the same lookups again when it is started.
+   *
+   * @param track The track to prepare
+   * @param lifetime Time in milliseconds to keep the results of preparing
+   * @see PreparableAudioTrack
+   */
+  public void prepareTrack(AudioTrack track, long lifetime) {
+    if (!(track instanceof PreparableAudioTrack)) {
+      return;
+    }
+
+    AudioSourceManager sourceManager = track.getSourceManager();
+
+    if (remoteNodeManager.isEnabled() && sourceManager != null && sourceManager.isTrackEncodable(track)) {
+      // Played on a remote node, which does its own lookups
+      return;
+    }
+
+    try {
+      trackInfoExecutorService.execute(() -> {
+        try {
+          ((PreparableAudioTrack) track).prepare(lifetime);
+        } catch (Exception e) {
+          log.debug("Failed to prepare track {} in advance.", track.getIdentifier(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      log.debug("Skipped preparing track {} in advance, loader queue is full.", track.getIdentifier());
+    }
+  }
+
   private AudioTrackExecutor createExecutorForTrack(InternalAudioTrack track, AudioConfiguration configuration,
                                                     AudioPlayerOptions playerOptions) {
 
@@ -411,41 +747,223 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
     trackInfoExecutorService.setMaximumPoolSize(poolSize);
   }
 
-  private boolean checkSourcesForItem(AudioReference reference, AudioLoadResultHandler resultHandler, boolean[] reported) {
+  /**
+   * @param itemCache Cache for loaded tracks and playlists, <code>null</code> to disable caching. While a cache is set,
+   *                  concurrent loads of the same identifier are also merged into one request to the sources. Result
+   *                  handlers always receive their own clones of the cached items.
+   */
+  public void setItemCache(AudioItemCache itemCache) {
+    this.itemCache = itemCache;
+  }
+
+  public AudioItemCache getItemCache() {
+    return itemCache;
+  }
+
+  private boolean checkSourcesForItem(AudioReference reference, AudioLoadResultHandler resultHandler, boolean[] reported)
+      throws InterruptedException {
+
+    AudioItemCache cache = itemCache;
+    String cacheKey = cache != null ? AudioItemCacheTools.createKey(reference) : null;
+    boolean incremental = resultHandler instanceof IncrementalAudioLoadResultHandler;
+    LoadedItem loaded;
+
+    if (cacheKey != null) {
+      loaded = loadItemWithCache(cache, cacheKey, reference, incremental);
+    } else {
+      loaded = loadItemFromSources(reference, incremental);
+    }
+
+    if (loaded == null) {
+      return false;
+    } else if (loaded.item instanceof AudioTrack) {
+      reported[0] = true;
+      resultHandler.trackLoaded((AudioTrack) loaded.item);
+    } else if (loaded.item instanceof AudioPlaylist) {
+      Consumer<AudioPlaylist> completionListener = null;
+
+      if (cacheKey != null && loaded.sourceManager != null && isLoadingPages(loaded.item)) {
+        AudioSourceManager sourceManager = loaded.sourceManager;
+        completionListener = playlist -> cacheItem(cache, cacheKey, playlist, sourceManager);
+      }
+
+      dispatchPlaylist(reference, (AudioPlaylist) loaded.item, resultHandler, reported, completionListener);
+    }
+
+    return true;
+  }
+
+  private static boolean isLoadingPages(AudioItem item) {
+    return item instanceof IncrementalAudioPlaylist && !((IncrementalAudioPlaylist) item).isComplete();
+  }
+
+  private static void cacheItem(AudioItemCache cache, String cacheKey, AudioItem item, AudioSourceManager sourceManager) {
+    AudioItem pristine = AudioItemCacheTools.cloneItem(item);
+
+    if (pristine != null) {
+      cache.putItem(cacheKey, pristine, sourceManager);
+    }
+  }
+
+  private void dispatchPlaylist(AudioReference reference, AudioPlaylist playlist, AudioLoadResultHandler resultHandler,
+                                boolean[] reported, Consumer<AudioPlaylist> completionListener) {
+
+    if (!(playlist instanceof IncrementalAudioPlaylist)) {
+      reported[0] = true;
+      resultHandler.playlistLoaded(playlist);
+
+      if (resultHandler instanceof IncrementalAudioLoadResultHandler) {
+        ((IncrementalAudioLoadResultHandler) resultHandler).playlistCompleted(playlist);
+      }
+      return;
+    }
+
+    IncrementalAudioPlaylist incremental = (IncrementalAudioPlaylist) playlist;
+
+    if (!(resultHandler instanceof IncrementalAudioLoadResultHandler)) {
+      // The result handler expects the whole playlist at once
+      while (!incremental.isComplete()) {
+        incremental.loadNextPage();
+      }
+
+      if (completionListener != null) {
+        completionListener.accept(playlist);
+      }
+
+      reported[0] = true;
+      resultHandler.playlistLoaded(playlist);
+      return;
+    }
+
+    IncrementalAudioLoadResultHandler incrementalHandler = (IncrementalAudioLoadResultHandler) resultHandler;
+
+    reported[0] = true;
+    incrementalHandler.playlistLoaded(playlist);
+
+    while (!incremental.isComplete()) {
+      List<AudioTrack> tracks;
+
+      try {
+        tracks = incremental.loadNextPage();
+      } catch (Throwable throwable) {
+        dispatchItemLoadFailure(reference.identifier, resultHandler, throwable);
+        ExceptionTools.rethrowErrors(throwable);
+        return;
+      }
+
+      log.debug("Loaded {} more tracks of a playlist with identifier {}.", tracks.size(), reference.identifier);
+      incrementalHandler.playlistTracksLoaded(playlist, tracks);
+    }
+
+    if (completionListener != null) {
+      completionListener.accept(playlist);
+    }
+
+    incrementalHandler.playlistCompleted(playlist);
+  }
+
+  private LoadedItem loadItemWithCache(AudioItemCache cache, String cacheKey, AudioReference reference,
+                                       boolean incremental) throws InterruptedException {
+
+    AudioItem cached = cache.getItem(cacheKey);
+
+    if (cached != null) {
+      AudioItem clone = AudioItemCacheTools.cloneItem(cached);
+
+      if (clone != null) {
+        log.debug("Loaded an item with identifier {} from cache.", reference.identifier);
+        return new LoadedItem(clone, null);
+      }
+    }
+
+    CompletableFuture<AudioItem> sharedLoad = new CompletableFuture<>();
+    CompletableFuture<AudioItem> existingLoad = sharedLoads.putIfAbsent(cacheKey, sharedLoad);
+
+    if (existingLoad != null) {
+      return joinSharedLoad(existingLoad, reference, incremental);
+    }
+
+    try {
+      LoadedItem loaded = loadItemFromSources(reference, incremental);
+
+      if (loaded == null) {
+        sharedLoad.complete(AudioReference.NO_TRACK);
+        return null;
+      }
+
+      // Keep an untouched copy, the result handler of this load may already modify the original
+      AudioItem pristine = AudioItemCacheTools.cloneItem(loaded.item);
+
+      // Playlists which are still loading their pages are cached once all of them have been loaded
+      if (pristine != null && !isLoadingPages(loaded.item)) {
+        cache.putItem(cacheKey, pristine, loaded.sourceManager);
+      }
+
+      sharedLoad.complete(pristine);
+      return loaded;
+    } catch (Throwable throwable) {
+      sharedLoad.completeExceptionally(throwable);
+      throw throwable;
+    } finally {
+      sharedLoads.remove(cacheKey, sharedLoad);
+    }
+  }
+
+  private LoadedItem joinSharedLoad(CompletableFuture<AudioItem> sharedLoad, AudioReference reference,
+                                    boolean incremental) throws InterruptedException {
+
+    AudioItem shared;
+
+    try {
+      shared = sharedLoad.get();
+    } catch (ExecutionException e) {
+      ExceptionTools.rethrowErrors(e.getCause());
+      throw ExceptionTools.toRuntimeException((Exception) e.getCause());
+    }
+
+    if (shared == AudioReference.NO_TRACK) {
+      return null;
+    } else if (shared == null) {
+      // The item could not be cloned, so it cannot be shared
+      return loadItemFromSources(reference, incremental);
+    }
+
+    log.debug("Loaded an item with identifier {} together with a concurrent identical load.", reference.identifier);
+    return new LoadedItem(AudioItemCacheTools.cloneItem(shared), null);
+  }
+
+  private LoadedItem loadItemFromSources(AudioReference reference, boolean incremental) {
     AudioReference currentReference = reference;
 
     for (int redirects = 0; redirects < MAXIMUM_LOAD_REDIRECTS && currentReference.identifier != null; redirects++) {
-      AudioItem item = checkSourcesForItemOnce(currentReference, resultHandler, reported);
-      if (item == null) {
-        return false;
-      } else if (!(item instanceof AudioReference)) {
-        return true;
+      LoadedItem loaded = checkSourcesForItemOnce(currentReference, incremental);
+      if (loaded == null) {
+        return null;
+      } else if (!(loaded.item instanceof AudioReference)) {
+        return loaded;
       }
-      currentReference = (AudioReference) item;
+      currentReference = (AudioReference) loaded.item;
     }
 
-    return false;
+    return null;
   }
 
-  private AudioItem checkSourcesForItemOnce(AudioReference reference, AudioLoadResultHandler resultHandler, boolean[] reported) {
+  private LoadedItem checkSourcesForItemOnce(AudioReference reference, boolean incremental) {
     for (AudioSourceManager sourceManager : sourceManagers) {
       if (reference.containerDescriptor != null && !(sourceManager instanceof ProbingAudioSourceManager)) {
         continue;
       }
 
-      AudioItem item = sourceManager.loadItem(this, reference);
+      AudioItem item = incremental ? sourceManager.loadItemIncrementally(this, reference) :
+          sourceManager.loadItem(this, reference);
 
       if (item != null) {
         if (item instanceof AudioTrack) {
           log.debug("Loaded a track with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
-          reported[0] = true;
-          resultHandler.trackLoaded((AudioTrack) item);
         } else if (item instanceof AudioPlaylist) {
           log.debug("Loaded a playlist with identifier {} using {}.", reference.identifier, sourceManager.getClass().getSimpleName());
-          reported[0] = true;
-          resultHandler.playlistLoaded((AudioPlaylist) item);
         }
-        return item;
+        return new LoadedItem(item, sourceManager);
       }
     }
 
@@ -502,4 +1020,34 @@ public class DefaultAudioPlayerManager implements AudioPlayerManager {
       }
     }
   }
+
+  private static class LoadedItem {
+    private final AudioItem item;
+    private final AudioSourceManager sourceManager;
+
+    private LoadedItem(AudioItem item, AudioSourceManager sourceManager) {
+      this.item = item;
+      this.sourceManager = sourceManager;
+    }
+  }
+
+  /**
+   * Input stream over the details of one track at a time, reusing the same buffer for all tracks of a batch.
+   */
+  private static class DetailsInputStream extends ByteArrayInputStream {
+    private DetailsInputStream() {
+      super(new byte[64]);
+    }
+
+    private void load(DataInput input, int length) throws IOException {
+      if (buf.length < length) {
+        buf = new byte[Math.max(length, buf.length * 2)];
+      }
+
+      input.readFully(buf, 0, length);
+      pos = 0;
+      mark = 0;
+      count = length;
+    }
+  }
 }
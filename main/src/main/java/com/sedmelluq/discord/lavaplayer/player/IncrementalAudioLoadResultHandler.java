@@ -0,0 +1,30 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import java.util.List;
+
+/**
+ * Result handler which can receive playlists before they are fully loaded. When a source loads a playlist page by page,
+ * {@link #playlistLoaded(AudioPlaylist)} is called as soon as the first page is available, followed by
+ * {@link #playlistTracksLoaded(AudioPlaylist, List)} for every following page and finally by
+ * {@link #playlistCompleted(AudioPlaylist)}. If loading one of the following pages fails,
+ * {@link #loadFailed(com.sedmelluq.discord.lavaplayer.tools.FriendlyException)} is called instead of
+ * {@link #playlistCompleted(AudioPlaylist)}. For result handlers which do not implement this interface, the whole
+ * playlist is loaded before {@link #playlistLoaded(AudioPlaylist)} is called.
+ */
+public interface IncrementalAudioLoadResultHandler extends AudioLoadResultHandler {
+  /**
+   * Called when the tracks of the next page of a playlist have been appended to it.
+   * @param playlist The playlist which was passed to {@link #playlistLoaded(AudioPlaylist)}
+   * @param tracks The tracks which were added to the playlist
+   */
+  void playlistTracksLoaded(AudioPlaylist playlist, List<AudioTrack> tracks);
+
+  /**
+   * Called when all pages of a playlist have been loaded. For playlists that were not loaded page by page, this is
+   * called right after {@link #playlistLoaded(AudioPlaylist)}.
+   * @param playlist The playlist which was passed to {@link #playlistLoaded(AudioPlaylist)}
+   */
+  void playlistCompleted(AudioPlaylist playlist);
+}
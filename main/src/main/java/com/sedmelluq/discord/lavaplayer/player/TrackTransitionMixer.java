@@ -0,0 +1,175 @@
+package com.sedmelluq.discord.lavaplayer.player;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.Pcm16AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+/**
+ * Encodes the PCM frames of tracks which are played with crossfading enabled into the output format of the player,
+ * mixing the frames of two tracks during a transition. Only one encoder is used for both tracks.
+ */
+class TrackTransitionMixer {
+  private final MutableAudioFrame primaryFrame;
+  private final MutableAudioFrame secondaryFrame;
+  private final byte[] frameBytes;
+  private final float[] mixBuffer;
+  private final short[] samples;
+
+  private AudioDataFormat outputFormat;
+  private AudioChunkEncoder encoder;
+  private ShortBuffer sampleBuffer;
+  private ByteBuffer encodedBuffer;
+  private boolean closed;
+
+  private TrackTransitionMixer(AudioDataFormat pcmFormat) {
+    int sampleCount = pcmFormat.totalSampleCount();
+
+    this.primaryFrame = new MutableAudioFrame();
+    this.secondaryFrame = new MutableAudioFrame();
+    this.frameBytes = new byte[sampleCount * 2];
+    this.mixBuffer = new float[sampleCount];
+    this.samples = new short[sampleCount];
+
+    primaryFrame.setBuffer(ByteBuffer.allocate(frameBytes.length));
+    secondaryFrame.setBuffer(ByteBuffer.allocate(frameBytes.length));
+  }
+
+  /**
+   * @param configuration Configuration of the player manager
+   * @return Configuration for executing tracks which can be mixed by a transition mixer.
+   */
+  static AudioConfiguration createPcmConfiguration(AudioConfiguration configuration) {
+    AudioConfiguration pcmConfiguration = configuration.copy();
+    pcmConfiguration.setOutputFormat(createPcmFormat(configuration.getOutputFormat()));
+    return pcmConfiguration;
+  }
+
+  /**
+   * @param configuration Configuration of the player manager
+   * @return Mixer for the output format of the configuration.
+   */
+  static TrackTransitionMixer create(AudioConfiguration configuration) {
+    return new TrackTransitionMixer(createPcmFormat(configuration.getOutputFormat()));
+  }
+
+  private static AudioDataFormat createPcmFormat(AudioDataFormat format) {
+    return new Pcm16AudioDataFormat(format.channelCount, format.sampleRate, format.chunkSampleCount, true);
+  }
+
+  /**
+   * @return Frame to receive the PCM frame of the primary (currently active) track into.
+   */
+  MutableAudioFrame getPrimaryFrame() {
+    return primaryFrame;
+  }
+
+  /**
+   * @return Frame to receive the PCM frame of the secondary (fading out) track into.
+   */
+  MutableAudioFrame getSecondaryFrame() {
+    return secondaryFrame;
+  }
+
+  /**
+   * Mixes the available frames and encodes them into the target frame. Gains are changed linearly over the frame.
+   *
+   * @param configuration Configuration to take the output format and encoder settings from
+   * @param hasPrimary Whether the primary frame contains a frame to mix
+   * @param primaryStartGain Gain for the primary frame at its start
+   * @param primaryEndGain Gain for the primary frame at its end
+   * @param hasSecondary Whether the secondary frame contains a frame to mix
+   * @param secondaryStartGain Gain for the secondary frame at its start
+   * @param secondaryEndGain Gain for the secondary frame at its end
+   * @param targetFrame Frame to store the encoded result in
+   * @return False if this mixer has been closed or there was nothing to mix.
+   */
+  synchronized boolean mix(AudioConfiguration configuration, boolean hasPrimary, float primaryStartGain,
+                           float primaryEndGain, boolean hasSecondary, float secondaryStartGain,
+                           float secondaryEndGain, MutableAudioFrame targetFrame) {
+
+    if (closed || (!hasPrimary && !hasSecondary)) {
+      return false;
+    }
+
+    checkEncoder(configuration);
+
+    for (int i = 0; i < mixBuffer.length; i++) {
+      mixBuffer[i] = 0.0f;
+    }
+
+    if (hasPrimary) {
+      addToMix(primaryFrame, primaryStartGain, primaryEndGain);
+    }
+
+    if (hasSecondary) {
+      addToMix(secondaryFrame, secondaryStartGain, secondaryEndGain);
+    }
+
+    for (int i = 0; i < mixBuffer.length; i++) {
+      samples[i] = (short) Math.max(-32768.0f, Math.min(32767.0f, mixBuffer[i]));
+    }
+
+    sampleBuffer.clear();
+    sampleBuffer.put(samples);
+    sampleBuffer.flip();
+
+    encodedBuffer.clear();
+    encoder.encode(sampleBuffer, encodedBuffer);
+
+    MutableAudioFrame timingFrame = hasPrimary ? primaryFrame : secondaryFrame;
+
+    targetFrame.setTimecode(timingFrame.getTimecode());
+    targetFrame.setVolume(timingFrame.getVolume());
+    targetFrame.setFormat(outputFormat);
+    targetFrame.setTerminator(false);
+    targetFrame.store(encodedBuffer.array(), encodedBuffer.position(), encodedBuffer.remaining());
+    return true;
+  }
+
+  private void checkEncoder(AudioConfiguration configuration) {
+    AudioDataFormat format = configuration.getOutputFormat();
+
+    if (encoder == null || !format.equals(outputFormat)) {
+      if (encoder != null) {
+        encoder.close();
+      }
+
+      outputFormat = format;
+      encoder = format.createEncoder(configuration);
+      sampleBuffer = ByteBuffer.allocateDirect(samples.length * 2).order(ByteOrder.nativeOrder()).asShortBuffer();
+      encodedBuffer = ByteBuffer.allocate(Math.max(format.maximumChunkSize(), samples.length * 2));
+    }
+  }
+
+  private void addToMix(MutableAudioFrame frame, float startGain, float endGain) {
+    int length = Math.min(frame.getDataLength(), frameBytes.length);
+    frame.getData(frameBytes, 0);
+
+    int channelCount = frame.getFormat().channelCount;
+    int sampleCount = length / 2;
+    int frameCount = sampleCount / channelCount;
+    float step = frameCount > 0 ? (endGain - startGain) / frameCount : 0.0f;
+
+    for (int i = 0; i < sampleCount; i++) {
+      float gain = startGain + step * (i / channelCount);
+      short sample = (short) ((frameBytes[i * 2] << 8) | (frameBytes[i * 2 + 1] & 0xFF));
+      mixBuffer[i] += sample * gain;
+    }
+  }
+
+  /**
+   * Frees the encoder. The mixer cannot be used after this.
+   */
+  synchronized void close() {
+    closed = true;
+
+    if (encoder != null) {
+      encoder.close();
+      encoder = null;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+
+/**
+ * Cache for the results of loading audio items, which lets the player manager skip asking the sources again when the
+ * same identifier was loaded recently. Implementations must be thread safe. Stored items are never passed to result
+ * handlers directly, the player manager hands out clones of them.
+ *
+ * @see com.sedmelluq.discord.lavaplayer.player.DefaultAudioPlayerManager#setItemCache(AudioItemCache)
+ */
+public interface AudioItemCache {
+  /**
+   * @param key Normalised identifier of the item, see {@link AudioItemCacheTools#createKey}
+   * @return The cached track or playlist, <code>null</code> if there is none
+   */
+  AudioItem getItem(String key);
+
+  /**
+   * @param key Normalised identifier of the item, see {@link AudioItemCacheTools#createKey}
+   * @param item The loaded track or playlist
+   * @param sourceManager The source manager which loaded the item
+   */
+  void putItem(String key, AudioItem item, AudioSourceManager sourceManager);
+}
@@ -0,0 +1,72 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper methods for caching loaded audio items.
+ */
+public class AudioItemCacheTools {
+  /**
+   * @param reference Reference which is being loaded
+   * @return Key for caching the result of loading the reference, <code>null</code> if it should not be cached, which
+   *         is the case for references with a known container, as those are resolved by probing.
+   */
+  public static String createKey(AudioReference reference) {
+    if (reference.identifier == null || reference.containerDescriptor != null) {
+      return null;
+    }
+
+    String key = reference.identifier.trim();
+    return key.isEmpty() ? null : key;
+  }
+
+  /**
+   * @param item Track or playlist to clone
+   * @return A clone which does not share any state with the original, <code>null</code> if the item or any of its
+   *         tracks does not support cloning.
+   */
+  public static AudioItem cloneItem(AudioItem item) {
+    try {
+      if (item instanceof AudioTrack) {
+        return ((AudioTrack) item).makeClone();
+      } else if (item instanceof IncrementalAudioPlaylist) {
+        return ((IncrementalAudioPlaylist) item).makeClone();
+      } else if (item instanceof AudioPlaylist) {
+        return clonePlaylist((AudioPlaylist) item);
+      }
+    } catch (UnsupportedOperationException e) {
+      // Track does not support cloning
+    }
+
+    return null;
+  }
+
+  private static AudioPlaylist clonePlaylist(AudioPlaylist playlist) {
+    AudioTrack selectedTrack = playlist.getSelectedTrack();
+    AudioTrack selectedClone = null;
+    List<AudioTrack> tracks = new ArrayList<>(playlist.getTracks().size());
+
+    for (AudioTrack track : playlist.getTracks()) {
+      AudioTrack clone = track.makeClone();
+
+      if (track == selectedTrack) {
+        selectedClone = clone;
+      }
+
+      tracks.add(clone);
+    }
+
+    if (selectedClone == null && selectedTrack != null) {
+      selectedClone = selectedTrack.makeClone();
+    }
+
+    return new BasicAudioPlaylist(playlist.getName(), tracks, selectedClone, playlist.isSearchResult());
+  }
+}
@@ -0,0 +1,154 @@
+package com.sedmelluq.discord.lavaplayer.player.cache;
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Audio item cache which keeps a limited number of items, evicting the least recently used ones first. Items expire
+ * after a time which can be configured separately for each source manager class.
+ */
+public class DefaultAudioItemCache implements AudioItemCache {
+  private static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(10);
+
+  private final int maximumSize;
+  private final Map<String, CachedItem> items;
+  private final Map<Class<? extends AudioSourceManager>, Long> sourceTimesToLive;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+  private final AtomicLong evictionCount;
+  private volatile long defaultTimeToLive;
+
+  /**
+   * @param maximumSize Maximum number of items to keep
+   */
+  public DefaultAudioItemCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.items = new LinkedHashMap<String, CachedItem>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedItem> eldest) {
+        if (size() > DefaultAudioItemCache.this.maximumSize) {
+          evictionCount.incrementAndGet();
+          return true;
+        }
+
+        return false;
+      }
+    };
+    this.sourceTimesToLive = new ConcurrentHashMap<>();
+    this.hitCount = new AtomicLong();
+    this.missCount = new AtomicLong();
+    this.evictionCount = new AtomicLong();
+    this.defaultTimeToLive = DEFAULT_TIME_TO_LIVE;
+  }
+
+  /**
+   * @param timeToLive Time in milliseconds to keep items from sources which do not have a specific time set, 0 to not
+   *                   cache them.
+   */
+  public void setDefaultTimeToLive(long timeToLive) {
+    this.defaultTimeToLive = timeToLive;
+  }
+
+  /**
+   * @param sourceClass Class of the source manager
+   * @param timeToLive Time in milliseconds to keep items loaded by source managers of this class, 0 to not cache them.
+   */
+  public void setSourceTimeToLive(Class<? extends AudioSourceManager> sourceClass, long timeToLive) {
+    sourceTimesToLive.put(sourceClass, timeToLive);
+  }
+
+  @Override
+  public AudioItem getItem(String key) {
+    CachedItem cached;
+
+    synchronized (items) {
+      cached = items.get(key);
+
+      if (cached != null && cached.expirationTime - System.nanoTime() <= 0) {
+        items.remove(key);
+        evictionCount.incrementAndGet();
+        cached = null;
+      }
+    }
+
+    if (cached != null) {
+      hitCount.incrementAndGet();
+      return cached.item;
+    } else {
+      missCount.incrementAndGet();
+      return null;
+    }
+  }
+
+  @Override
+  public void putItem(String key, AudioItem item, AudioSourceManager sourceManager) {
+    long timeToLive = getTimeToLive(sourceManager);
+
+    if (timeToLive > 0) {
+      CachedItem cached = new CachedItem(item, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeToLive));
+
+      synchronized (items) {
+        items.put(key, cached);
+      }
+    }
+  }
+
+  private long getTimeToLive(AudioSourceManager sourceManager) {
+    Long timeToLive = sourceManager != null ? sourceTimesToLive.get(sourceManager.getClass()) : null;
+    return timeToLive != null ? timeToLive : defaultTimeToLive;
+  }
+
+  /**
+   * Removes all items from the cache.
+   */
+  public void clear() {
+    synchronized (items) {
+      items.clear();
+    }
+  }
+
+  /**
+   * @return Number of items currently in the cache, including expired ones which have not been removed yet.
+   */
+  public int getSize() {
+    synchronized (items) {
+      return items.size();
+    }
+  }
+
+  /**
+   * @return Number of lookups which found an item.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return Number of lookups which did not find an item.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return Number of items removed because the cache was full or they had expired.
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  private static class CachedItem {
+    private final AudioItem item;
+    private final long expirationTime;
+
+    private CachedItem(AudioItem item, long expirationTime) {
+      this.item = item;
+      this.expirationTime = expirationTime;
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package com.sedmelluq.discord.lavaplayer.player.mixer;
+
+import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.Pcm16AudioDataFormat;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkDecoder;
+import com.sedmelluq.discord.lavaplayer.format.transcoder.AudioChunkEncoder;
+import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
+import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProvider;
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProviderTools;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mixes the frames of several frame providers (usually audio players) into one output. The output is encoded once
+ * with the output format of the configuration, so mixing N sources costs one encode per frame. The sources should
+ * provide frames in 16-bit PCM format with the same sample rate, channel count and chunk size as the output format
+ * (for example players from a separate player manager configured with such an output format), then their frames are
+ * used as they are. Frames in other formats with matching parameters are decoded first, others are skipped.
+ *
+ * A source which does not have a frame available when the mixer is asked for one is silent for that frame. The sum of
+ * the sources is passed through a peak limiter, which lowers the level of the whole frame immediately when it would
+ * clip and restores it gradually afterwards.
+ */
+public class AudioMixer implements AudioFrameProvider {
+  private static final Logger log = LoggerFactory.getLogger(AudioMixer.class);
+
+  private static final float MAXIMUM_LEVEL = 32767.0f;
+  private static final float LIMITER_RELEASE_PER_FRAME = 0.02f;
+
+  private final AudioDataFormat format;
+  private final int bufferSize;
+  private final List<AudioMixerInput> inputs;
+  private final AudioChunkEncoder encoder;
+  private final Map<AudioDataFormat, AudioChunkDecoder> decoders;
+  private final ShortBuffer decodeBuffer;
+  private final short[] samples;
+  private final float[] mixBuffer;
+  private final ShortBuffer outputBuffer;
+  private final ByteBuffer encodedBuffer;
+  private final MutableAudioFrame frozenFrame;
+
+  private float limiterGain;
+  private long timecode;
+
+  /**
+   * @param configuration Configuration which specifies the output format and encoder settings.
+   */
+  public AudioMixer(AudioConfiguration configuration) {
+    this.format = configuration.getOutputFormat();
+    this.bufferSize = Math.max(format.maximumChunkSize(), format.totalSampleCount() * 2);
+    this.inputs = new CopyOnWriteArrayList<>();
+    this.encoder = format.createEncoder(configuration);
+    this.decoders = new HashMap<>();
+    this.decodeBuffer = ByteBuffer.allocateDirect(format.totalSampleCount() * 2)
+        .order(ByteOrder.nativeOrder()).asShortBuffer();
+    this.samples = new short[format.totalSampleCount()];
+    this.mixBuffer = new float[format.totalSampleCount()];
+    this.outputBuffer = ByteBuffer.allocateDirect(format.totalSampleCount() * 2)
+        .order(ByteOrder.nativeOrder()).asShortBuffer();
+    this.encodedBuffer = ByteBuffer.allocate(bufferSize);
+    this.frozenFrame = new MutableAudioFrame();
+    this.limiterGain = 1.0f;
+
+    frozenFrame.setBuffer(ByteBuffer.allocate(bufferSize));
+  }
+
+  /**
+   * @param source Frame provider to add as an input to this mixer.
+   * @return The input handle, which can be used to change the gain of the input or remove it.
+   */
+  public AudioMixerInput addInput(AudioFrameProvider source) {
+    AudioMixerInput input = new AudioMixerInput(source, bufferSize);
+    inputs.add(input);
+    return input;
+  }
+
+  /**
+   * @param input Input to remove from this mixer.
+   */
+  public void removeInput(AudioMixerInput input) {
+    inputs.remove(input);
+  }
+
+  /**
+   * @return Current inputs of this mixer.
+   */
+  public List<AudioMixerInput> getInputs() {
+    return inputs;
+  }
+
+  @Override
+  public AudioFrame provide() {
+    return AudioFrameProviderTools.delegateToTimedProvide(this);
+  }
+
+  @Override
+  public synchronized AudioFrame provide(long timeout, TimeUnit unit) throws TimeoutException, InterruptedException {
+    if (provide(frozenFrame, timeout, unit)) {
+      return frozenFrame.freeze();
+    }
+
+    return null;
+  }
+
+  @Override
+  public boolean provide(MutableAudioFrame targetFrame) {
+    try {
+      return provide(targetFrame, 0, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException | InterruptedException e) {
+      ExceptionTools.keepInterrupted(e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * When a timeout is specified, waits for a frame only from the first input, the rest are checked without waiting.
+   */
+  @Override
+  public synchronized boolean provide(MutableAudioFrame targetFrame, long timeout, TimeUnit unit)
+      throws TimeoutException, InterruptedException {
+
+    boolean mixed = false;
+    boolean first = true;
+
+    for (AudioMixerInput input : inputs) {
+      boolean provided = first && timeout > 0 ? input.source.provide(input.frame, timeout, unit) :
+          input.source.provide(input.frame);
+
+      first = false;
+
+      if (provided && addToMix(input, !mixed)) {
+        mixed = true;
+      }
+    }
+
+    if (!mixed) {
+      return false;
+    }
+
+    applyLimiter();
+    encodeMix(targetFrame);
+    return true;
+  }
+
+  private boolean addToMix(AudioMixerInput input, boolean firstInMix) {
+    AudioDataFormat frameFormat = input.frame.getFormat();
+
+    if (frameFormat == null || frameFormat.channelCount != format.channelCount ||
+        frameFormat.sampleRate != format.sampleRate || frameFormat.chunkSampleCount != format.chunkSampleCount) {
+
+      log.debug("Skipping frame from mixer input in an incompatible format {}.", frameFormat);
+      return false;
+    }
+
+    int sampleCount = samples.length;
+
+    if (frameFormat instanceof Pcm16AudioDataFormat) {
+      readPcmSamples(input, ((Pcm16AudioDataFormat) frameFormat).isBigEndian(), sampleCount);
+    } else {
+      decodeSamples(input.frame, frameFormat, sampleCount);
+    }
+
+    float gain = input.getGain();
+
+    if (firstInMix) {
+      for (int i = 0; i < sampleCount; i++) {
+        mixBuffer[i] = samples[i] * gain;
+      }
+    } else {
+      for (int i = 0; i < sampleCount; i++) {
+        mixBuffer[i] += samples[i] * gain;
+      }
+    }
+
+    return true;
+  }
+
+  private void readPcmSamples(AudioMixerInput input, boolean bigEndian, int sampleCount) {
+    byte[] bytes = input.frameBytes;
+    input.frame.getData(bytes, 0);
+
+    if (bigEndian) {
+      for (int i = 0; i < sampleCount; i++) {
+        samples[i] = (short) ((bytes[i * 2] << 8) | (bytes[i * 2 + 1] & 0xFF));
+      }
+    } else {
+      for (int i = 0; i < sampleCount; i++) {
+        samples[i] = (short) ((bytes[i * 2 + 1] << 8) | (bytes[i * 2] & 0xFF));
+      }
+    }
+  }
+
+  private void decodeSamples(MutableAudioFrame frame, AudioDataFormat frameFormat, int sampleCount) {
+    AudioChunkDecoder decoder = decoders.computeIfAbsent(frameFormat, AudioDataFormat::createDecoder);
+
+    decoder.decode(frame.getData(), decodeBuffer);
+    decodeBuffer.position(0);
+    decodeBuffer.get(samples, 0, sampleCount);
+  }
+
+  private void applyLimiter() {
+    float peak = 0.0f;
+
+    for (float sample : mixBuffer) {
+      peak = Math.max(peak, Math.abs(sample));
+    }
+
+    float targetGain = peak > MAXIMUM_LEVEL ? MAXIMUM_LEVEL / peak : 1.0f;
+    float startGain = limiterGain;
+    float endGain;
+
+    if (targetGain <= startGain) {
+      startGain = targetGain;
+      endGain = targetGain;
+    } else {
+      endGain = Math.min(targetGain, startGain + LIMITER_RELEASE_PER_FRAME);
+    }
+
+    int channelCount = format.channelCount;
+    int frameCount = mixBuffer.length / channelCount;
+    float step = (endGain - startGain) / frameCount;
+
+    for (int i = 0; i < frameCount; i++) {
+      float gain = startGain + step * i;
+
+      for (int channel = 0; channel < channelCount; channel++) {
+        int index = i * channelCount + channel;
+        samples[index] = (short) Math.max(-MAXIMUM_LEVEL, Math.min(MAXIMUM_LEVEL, mixBuffer[index] * gain));
+      }
+    }
+
+    limiterGain = endGain;
+  }
+
+  private void encodeMix(MutableAudioFrame targetFrame) {
+    outputBuffer.clear();
+    outputBuffer.put(samples);
+    outputBuffer.flip();
+
+    encodedBuffer.clear();
+    encoder.encode(outputBuffer, encodedBuffer);
+
+    targetFrame.setTimecode(timecode);
+    targetFrame.setVolume(100);
+    targetFrame.setFormat(format);
+    targetFrame.setTerminator(false);
+    targetFrame.store(encodedBuffer.array(), encodedBuffer.position(), encodedBuffer.remaining());
+
+    timecode += format.frameDuration();
+  }
+
+  /**
+   * Frees the encoder and decoders of this mixer. Does not affect the sources.
+   */
+  public synchronized void close() {
+    encoder.close();
+
+    for (AudioChunkDecoder decoder : decoders.values()) {
+      decoder.close();
+    }
+
+    decoders.clear();
+  }
+}
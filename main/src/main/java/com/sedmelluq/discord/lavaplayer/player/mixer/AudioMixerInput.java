@@ -0,0 +1,46 @@
+package com.sedmelluq.discord.lavaplayer.player.mixer;
+
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameProvider;
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
+import java.nio.ByteBuffer;
+
+/**
+ * One source of an {@link AudioMixer}.
+ */
+public class AudioMixerInput {
+  final AudioFrameProvider source;
+  final MutableAudioFrame frame;
+  final byte[] frameBytes;
+
+  private volatile float gain;
+
+  AudioMixerInput(AudioFrameProvider source, int bufferSize) {
+    this.source = source;
+    this.frame = new MutableAudioFrame();
+    this.frameBytes = new byte[bufferSize];
+    this.gain = 1.0f;
+
+    frame.setBuffer(ByteBuffer.allocate(bufferSize));
+  }
+
+  /**
+   * @return The frame provider of this input.
+   */
+  public AudioFrameProvider getSource() {
+    return source;
+  }
+
+  /**
+   * @return The gain applied to the samples of this input.
+   */
+  public float getGain() {
+    return gain;
+  }
+
+  /**
+   * @param gain The gain to apply to the samples of this input, 1 to keep the level as it is, 0 to mute it.
+   */
+  public void setGain(float gain) {
+    this.gain = Math.max(0.0f, gain);
+  }
+}
@@ -5,9 +5,13 @@ import com.sedmelluq.discord.lavaplayer.track.AudioItem;
 import com.sedmelluq.discord.lavaplayer.track.AudioReference;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * Manager for a source of audio items.
@@ -32,6 +36,37 @@ public interface AudioSourceManager {
    */
   AudioItem loadItem(AudioPlayerManager manager, AudioReference reference);
 
+  /**
+   * Same as {@link #loadItem(AudioPlayerManager, AudioReference)}, except that a playlist which is loaded page by page
+   * may be returned as an {@link IncrementalAudioPlaylist} which holds only the tracks of its first page. The player
+   * manager uses this for result handlers which can receive the following pages as they are loaded. The default
+   * implementation calls {@link #loadItem(AudioPlayerManager, AudioReference)}, which must always return complete
+   * playlists.
+   *
+   * @param manager The audio manager to attach to the loaded tracks
+   * @param reference The reference with the identifier which the source manager should find the track with
+   * @return The loaded item or null on unrecognized identifier
+   */
+  default AudioItem loadItemIncrementally(AudioPlayerManager manager, AudioReference reference) {
+    return loadItem(manager, reference);
+  }
+
+  /**
+   * Asynchronous version of {@link #loadItem(AudioPlayerManager, AudioReference)}. The default implementation runs
+   * {@link #loadItem(AudioPlayerManager, AudioReference)} on the specified executor, source managers which can load
+   * items without blocking a thread for the whole time should override it.
+   *
+   * @param manager The audio manager to attach to the loaded tracks
+   * @param reference The reference with the identifier which the source manager should find the track with
+   * @param executor Executor for running blocking parts of loading the item
+   * @return Stage which completes with the loaded item or null on unrecognized identifier
+   */
+  default CompletionStage<AudioItem> loadItemAsync(AudioPlayerManager manager, AudioReference reference,
+                                                   Executor executor) {
+
+    return CompletableFuture.supplyAsync(() -> loadItem(manager, reference), executor);
+  }
+
   /**
    * Returns whether the specified track can be encoded. The argument is always a track created by this manager. Being
    * encodable also means that it must be possible to play this track on a different node, so it should not depend on
@@ -0,0 +1,338 @@
+package com.sedmelluq.discord.lavaplayer.source;
+
+import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
+import com.sedmelluq.discord.lavaplayer.tools.RequestCoalescer;
+import com.sedmelluq.discord.lavaplayer.track.AudioItem;
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.AudioReference;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache for search results, which can be shared by the source managers that support searching. Queries which only
+ * differ in letter case, whitespace or Unicode representation share an entry. Only the track infos of the results are
+ * kept, so the tracks given to each caller are created by the source manager as usual. Concurrent searches with the
+ * same query are merged into one request. The contents can be saved with {@link #exportSnapshot(DataOutput)} and
+ * restored on the next start with {@link #importSnapshot(DataInput)}.
+ */
+public class SearchResultCache {
+  private static final Logger log = LoggerFactory.getLogger(SearchResultCache.class);
+
+  private static final int SNAPSHOT_VERSION = 1;
+  private static final Pattern whitespacePattern = Pattern.compile("\\s+");
+
+  private final int maximumSize;
+  private final long timeToLive;
+  private final Map<String, CachedResults> entries;
+  private final RequestCoalescer<String, List<AudioTrackInfo>> searches;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+
+  /**
+   * @param maximumSize Maximum number of search results to keep, the least recently used ones are evicted first
+   * @param timeToLive Time in milliseconds to keep search results
+   */
+  public SearchResultCache(int maximumSize, long timeToLive) {
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive;
+    this.entries = new LinkedHashMap<String, CachedResults>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedResults> eldest) {
+        return size() > SearchResultCache.this.maximumSize;
+      }
+    };
+    this.searches = new RequestCoalescer<>();
+    this.hitCount = new AtomicLong();
+    this.missCount = new AtomicLong();
+  }
+
+  /**
+   * @param query Search query
+   * @return The query in the form used for cache keys: Unicode NFKC normalised, in lower case, with whitespace
+   *         collapsed to single spaces and trimmed.
+   */
+  public static String normalizeQuery(String query) {
+    String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    return whitespacePattern.matcher(normalized).replaceAll(" ").trim();
+  }
+
+  /**
+   * Returns the cached results for the query, or performs the search and caches its results if there are none.
+   * Searches with no matches are cached as well. Results of searches which returned anything other than a search
+   * result playlist or {@link AudioReference#NO_TRACK} are not cached.
+   *
+   * @param namespace Namespace of the search, so that different kinds of searches do not share results
+   * @param query Search query
+   * @param playlistName Name of the returned playlist, the same as the search itself would give it
+   * @param trackFactory Creates the tracks of the returned playlist from cached track infos
+   * @param search Performs the search
+   * @return Playlist of the search results, or {@link AudioReference#NO_TRACK} if there were none
+   */
+  public AudioItem search(String namespace, String query, String playlistName,
+                          Function<AudioTrackInfo, AudioTrack> trackFactory, Supplier<AudioItem> search) {
+
+    String key = namespace + ":" + normalizeQuery(query);
+    List<AudioTrackInfo> results = getResults(key);
+
+    if (results != null) {
+      hitCount.incrementAndGet();
+      log.debug("Using cached search results for query {} in {}.", query, namespace);
+    } else {
+      missCount.incrementAndGet();
+
+      AudioItem[] uncacheable = new AudioItem[1];
+
+      results = searches.request(key, () -> {
+        AudioItem item = search.get();
+        List<AudioTrackInfo> loaded = extractResults(item);
+
+        if (loaded != null) {
+          putResults(key, loaded);
+        } else {
+          uncacheable[0] = item;
+        }
+
+        return loaded;
+      });
+
+      if (uncacheable[0] != null) {
+        return uncacheable[0];
+      } else if (results == null) {
+        // Joined a search which did not produce cacheable results
+        return search.get();
+      }
+    }
+
+    return buildResultItem(playlistName, results, trackFactory);
+  }
+
+  private static List<AudioTrackInfo> extractResults(AudioItem item) {
+    if (item == AudioReference.NO_TRACK) {
+      return Collections.emptyList();
+    } else if (item instanceof AudioPlaylist && ((AudioPlaylist) item).isSearchResult()) {
+      List<AudioTrack> tracks = ((AudioPlaylist) item).getTracks();
+      List<AudioTrackInfo> results = new ArrayList<>(tracks.size());
+
+      for (AudioTrack track : tracks) {
+        results.add(track.getInfo());
+      }
+
+      return Collections.unmodifiableList(results);
+    }
+
+    return null;
+  }
+
+  private static AudioItem buildResultItem(String playlistName, List<AudioTrackInfo> results,
+                                           Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+    if (results.isEmpty()) {
+      return AudioReference.NO_TRACK;
+    }
+
+    List<AudioTrack> tracks = new ArrayList<>(results.size());
+
+    for (AudioTrackInfo info : results) {
+      tracks.add(trackFactory.apply(info));
+    }
+
+    return new BasicAudioPlaylist(playlistName, tracks, null, true);
+  }
+
+  private List<AudioTrackInfo> getResults(String key) {
+    synchronized (entries) {
+      CachedResults cached = entries.get(key);
+
+      if (cached != null && cached.expirationTime <= System.currentTimeMillis()) {
+        entries.remove(key);
+        cached = null;
+      }
+
+      return cached != null ? cached.results : null;
+    }
+  }
+
+  private void putResults(String key, List<AudioTrackInfo> results) {
+    CachedResults cached = new CachedResults(results, System.currentTimeMillis() + timeToLive);
+
+    synchronized (entries) {
+      entries.put(key, cached);
+    }
+  }
+
+  /**
+   * Removes all search results from the cache.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * @return Number of searches which were served from the cache.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return Number of searches which were not found in the cache.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Writes the search results which have not expired yet to the output, so that they can be added to the cache of
+   * another instance with {@link #importSnapshot(DataInput)}, for example after a restart.
+   *
+   * @param output Output to write the snapshot to
+   * @throws IOException On write error
+   */
+  public void exportSnapshot(DataOutput output) throws IOException {
+    List<String> keys = new ArrayList<>();
+    List<CachedResults> values = new ArrayList<>();
+    long now = System.currentTimeMillis();
+
+    // The entries themselves are reused by the map, so only their contents can be used outside the lock
+    synchronized (entries) {
+      for (Map.Entry<String, CachedResults> entry : entries.entrySet()) {
+        if (entry.getValue().expirationTime > now) {
+          keys.add(entry.getKey());
+          values.add(entry.getValue());
+        }
+      }
+    }
+
+    output.writeByte(SNAPSHOT_VERSION);
+    output.writeInt(keys.size());
+
+    for (int i = 0; i < keys.size(); i++) {
+      CachedResults cached = values.get(i);
+
+      output.writeUTF(keys.get(i));
+      output.writeLong(cached.expirationTime);
+      output.writeInt(cached.results.size());
+
+      for (AudioTrackInfo info : cached.results) {
+        output.writeUTF(info.title);
+        output.writeUTF(info.author);
+        output.writeLong(info.length);
+        output.writeUTF(info.identifier);
+        output.writeBoolean(info.isStream);
+        DataFormatTools.writeNullableText(output, info.uri);
+      }
+    }
+  }
+
+  /**
+   * Adds the search results from a snapshot written by {@link #exportSnapshot(DataOutput)}. Results which have expired
+   * in the meantime are skipped and results which are already cached are kept as they are.
+   *
+   * @param input Input to read the snapshot from
+   * @throws IOException On read error or if the snapshot is not in a supported format
+   */
+  public void importSnapshot(DataInput input) throws IOException {
+    int version = input.readUnsignedByte();
+
+    if (version != SNAPSHOT_VERSION) {
+      throw new IOException("Unsupported search result snapshot version " + version);
+    }
+
+    int entryCount = input.readInt();
+    int importedCount = 0;
+    long now = System.currentTimeMillis();
+
+    for (int i = 0; i < entryCount; i++) {
+      String key = input.readUTF();
+      long expirationTime = input.readLong();
+      int resultCount = input.readInt();
+      List<AudioTrackInfo> results = new ArrayList<>(resultCount);
+
+      for (int j = 0; j < resultCount; j++) {
+        results.add(new AudioTrackInfo(input.readUTF(), input.readUTF(), input.readLong(), input.readUTF(),
+            input.readBoolean(), DataFormatTools.readNullableText(input)));
+      }
+
+      if (expirationTime > now) {
+        CachedResults cached = new CachedResults(Collections.unmodifiableList(results), expirationTime);
+
+        synchronized (entries) {
+          if (entries.putIfAbsent(key, cached) == null) {
+            importedCount++;
+          }
+        }
+      }
+    }
+
+    log.debug("Imported {} search results from a snapshot.", importedCount);
+  }
+
+  /**
+   * Saves a snapshot of the cache to a file, see {@link #exportSnapshot(DataOutput)}. The file is replaced only once
+   * the snapshot has been written completely.
+   *
+   * @param path Path of the file
+   * @throws IOException On write error
+   */
+  public void exportSnapshot(Path path) throws IOException {
+    Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+      exportSnapshot(output);
+    }
+
+    Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Loads a snapshot saved with {@link #exportSnapshot(Path)} into the cache. Does nothing if the file does not exist.
+   *
+   * @param path Path of the file
+   * @throws IOException On read error or if the snapshot is not in a supported format
+   */
+  public void importSnapshot(Path path) throws IOException {
+    if (!Files.exists(path)) {
+      return;
+    }
+
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      importSnapshot(input);
+    }
+  }
+
+  private static class CachedResults {
+    private final List<AudioTrackInfo> results;
+    private final long expirationTime;
+
+    private CachedResults(List<AudioTrackInfo> results, long expirationTime) {
+      this.results = results;
+      this.expirationTime = expirationTime;
+    }
+  }
+}
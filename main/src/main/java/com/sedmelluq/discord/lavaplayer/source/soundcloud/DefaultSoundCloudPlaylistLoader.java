@@ -114,17 +114,28 @@ public class DefaultSoundCloudPlaylistLoader implements SoundCloudPlaylistLoader
 
     int blockedCount = 0;
     List<AudioTrack> tracks = new ArrayList<>();
+    // Tracks of a set are often by the same user, they can all share the same author string
+    Map<String, String> authors = new HashMap<>();
 
     for (JsonBrowser trackData : trackDataList) {
       if (dataReader.isTrackBlocked(trackData)) {
         blockedCount++;
       } else {
         try {
-          tracks.add(trackFactory.apply(dataReader.readTrackInfo(
+          AudioTrackInfo trackInfo = dataReader.readTrackInfo(
               trackData,
               formatHandler.buildFormatIdentifier(
                   formatHandler.chooseBestFormat(dataReader.readTrackFormats(trackData))
               )
+          );
+
+          tracks.add(trackFactory.apply(new AudioTrackInfo(
+              trackInfo.title,
+              trackInfo.author != null ? authors.computeIfAbsent(trackInfo.author, Function.identity()) : null,
+              trackInfo.length,
+              trackInfo.identifier,
+              trackInfo.isStream,
+              trackInfo.uri
           )));
         } catch (Exception e) {
           log.error("In soundcloud playlist {}, failed to load track", playlistId, e);
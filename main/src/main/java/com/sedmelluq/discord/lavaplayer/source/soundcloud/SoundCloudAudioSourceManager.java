@@ -2,6 +2,7 @@ package com.sedmelluq.discord.lavaplayer.source.soundcloud;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -66,6 +67,7 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
   private final HttpInterfaceManager httpInterfaceManager;
   private final SoundCloudClientIdTracker clientIdTracker;
   private final boolean allowSearch;
+  private volatile SearchResultCache searchResultCache;
 
   public static SoundCloudAudioSourceManager createDefault() {
     SoundCloudDataReader dataReader = new DefaultSoundCloudDataReader();
@@ -106,6 +108,14 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
     return formatHandler;
   }
 
+  /**
+   * @param searchResultCache Cache for the results of SoundCloud searches, which can be shared with other source
+   *                          managers, <code>null</code> to disable caching
+   */
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
   @Override
   public String getSourceName() {
     return "soundcloud";
@@ -300,7 +310,17 @@ public class SoundCloudAudioSourceManager implements AudioSourceManager, HttpCon
 
   private AudioItem loadSearchResult(String query, int offset, int rawLimit) {
     int limit = Math.min(rawLimit, MAXIMUM_SEARCH_RESULTS);
+    SearchResultCache cache = searchResultCache;
+
+    if (cache == null) {
+      return loadSearchResultFromApi(query, offset, limit);
+    }
+
+    return cache.search(SEARCH_PREFIX + "[" + offset + "," + limit + "]", query, "Search results for: " + query,
+        this::buildTrackFromInfo, () -> loadSearchResultFromApi(query, offset, limit));
+  }
 
+  private AudioItem loadSearchResultFromApi(String query, int offset, int limit) {
     try (
         HttpInterface httpInterface = getHttpInterface();
         CloseableHttpResponse response = httpInterface.execute(new HttpGet(buildSearchUri(query, offset, limit)))
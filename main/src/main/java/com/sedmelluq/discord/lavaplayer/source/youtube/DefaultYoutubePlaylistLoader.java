@@ -9,11 +9,17 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist;
+import com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -39,6 +45,41 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
   public AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                             Function<AudioTrackInfo, AudioTrack> trackFactory) {
 
+    try {
+      FirstPage firstPage = loadFirstPage(httpInterface, playlistId, trackFactory);
+      List<AudioTrack> tracks = firstPage.tracks;
+      String continuationsToken = firstPage.continuationsToken;
+      int loadCount = 0;
+      int pageCount = playlistPageCount;
+
+      // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
+      while (continuationsToken != null && ++loadCount < pageCount) {
+        continuationsToken = loadContinuation(httpInterface, continuationsToken, tracks, trackFactory);
+      }
+
+      return new BasicAudioPlaylist(firstPage.playlistName, tracks, findSelectedTrack(tracks, selectedVideoId), false);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public AudioPlaylist loadIncremental(HttpInterface httpInterface, Supplier<HttpInterface> pageInterfaceSource,
+                                       String playlistId, Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+    try {
+      FirstPage firstPage = loadFirstPage(httpInterface, playlistId, trackFactory);
+
+      return new IncrementalPlaylist(firstPage.playlistName, new CopyOnWriteArrayList<>(firstPage.tracks),
+          firstPage.continuationsToken, playlistPageCount - 1, pageInterfaceSource, trackFactory);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private FirstPage loadFirstPage(HttpInterface httpInterface, String playlistId,
+                                  Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
+
     HttpGet request = new HttpGet(getPlaylistUrl(playlistId) + PBJ_PARAMETER + "&hl=en");
 
     try (CloseableHttpResponse response = httpInterface.execute(request)) {
@@ -46,15 +87,11 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
       HttpClientTools.assertJsonContentType(response);
 
       JsonBrowser json = JsonBrowser.parse(response.getEntity().getContent());
-      return buildPlaylist(httpInterface, json, selectedVideoId, trackFactory);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      return buildFirstPage(json, trackFactory);
     }
   }
 
-  private AudioPlaylist buildPlaylist(HttpInterface httpInterface, JsonBrowser json, String selectedVideoId,
-                                      Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
-
+  private FirstPage buildFirstPage(JsonBrowser json, Function<AudioTrackInfo, AudioTrack> trackFactory) {
     JsonBrowser jsonResponse = json.index(1).get("response");
 
     String errorAlertMessage = findErrorAlert(jsonResponse);
@@ -95,36 +132,35 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
 
     List<AudioTrack> tracks = new ArrayList<>();
     String continuationsToken = extractPlaylistTracks(playlistVideoList, tracks, trackFactory);
-    int loadCount = 0;
-    int pageCount = playlistPageCount;
-
-    // Also load the next pages, each result gives us a JSON with separate values for list html and next page loader html
-    while (continuationsToken != null && ++loadCount < pageCount) {
-      HttpPost post = new HttpPost(REQUEST_URL);
-      StringEntity payload = new StringEntity(String.format(REQUEST_PAYLOAD, continuationsToken), "UTF-8");
-      post.setEntity(payload);
-      try (CloseableHttpResponse response = httpInterface.execute(post)) {
-        HttpClientTools.assertSuccessWithContent(response, "playlist response");
-
-        JsonBrowser continuationJson = JsonBrowser.parse(response.getEntity().getContent());
-
-        JsonBrowser playlistVideoListPage = continuationJson.index(1)
-            .get("response")
-            .get("continuationContents")
-            .get("playlistVideoListContinuation");
-
-        if (playlistVideoListPage.isNull()) {
-          playlistVideoListPage = continuationJson.get("onResponseReceivedActions")
-            .index(0)
-            .get("appendContinuationItemsAction")
-            .get("continuationItems");
-        }
 
-        continuationsToken = extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
+    return new FirstPage(playlistName, tracks, continuationsToken);
+  }
+
+  private String loadContinuation(HttpInterface httpInterface, String continuationsToken, List<AudioTrack> tracks,
+                                  Function<AudioTrackInfo, AudioTrack> trackFactory) throws IOException {
+
+    HttpPost post = new HttpPost(REQUEST_URL);
+    StringEntity payload = new StringEntity(String.format(REQUEST_PAYLOAD, continuationsToken), "UTF-8");
+    post.setEntity(payload);
+    try (CloseableHttpResponse response = httpInterface.execute(post)) {
+      HttpClientTools.assertSuccessWithContent(response, "playlist response");
+
+      JsonBrowser continuationJson = JsonBrowser.parse(response.getEntity().getContent());
+
+      JsonBrowser playlistVideoListPage = continuationJson.index(1)
+          .get("response")
+          .get("continuationContents")
+          .get("playlistVideoListContinuation");
+
+      if (playlistVideoListPage.isNull()) {
+        playlistVideoListPage = continuationJson.get("onResponseReceivedActions")
+          .index(0)
+          .get("appendContinuationItemsAction")
+          .get("continuationItems");
       }
-    }
 
-    return new BasicAudioPlaylist(playlistName, tracks, findSelectedTrack(tracks, selectedVideoId), false);
+      return extractPlaylistTracks(playlistVideoListPage, tracks, trackFactory);
+    }
   }
 
   private String findErrorAlert(JsonBrowser jsonResponse) {
@@ -173,6 +209,8 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
     if (playlistVideoList.isNull()) return null;
 
     final List<JsonBrowser> playlistTrackEntries = playlistVideoList.values();
+    // Playlists often have long runs of videos from one channel, they can all share the same author string
+    final Map<String, String> authors = new HashMap<>();
     for (JsonBrowser track : playlistTrackEntries) {
       JsonBrowser item = track.get("playlistVideoRenderer");
 
@@ -185,7 +223,8 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
         JsonBrowser titleField = item.get("title");
         String title = Optional.ofNullable(titleField.get("simpleText").text())
                 .orElse(titleField.get("runs").index(0).get("text").text());
-        String author = shortBylineText.get("runs").index(0).get("text").text();
+        String author = authors.computeIfAbsent(shortBylineText.get("runs").index(0).get("text").text(),
+            Function.identity());
         JsonBrowser lengthSeconds = item.get("lengthSeconds");
         long duration = Units.secondsToMillis(lengthSeconds.asLong(Units.DURATION_SEC_UNKNOWN));
 
@@ -213,4 +252,94 @@ public class DefaultYoutubePlaylistLoader implements YoutubePlaylistLoader {
   private static String getPlaylistUrl(String playlistId) {
     return "https://www.youtube.com/playlist?list=" + playlistId;
   }
+
+  private static class FirstPage {
+    private final String playlistName;
+    private final List<AudioTrack> tracks;
+    private final String continuationsToken;
+
+    private FirstPage(String playlistName, List<AudioTrack> tracks, String continuationsToken) {
+      this.playlistName = playlistName;
+      this.tracks = tracks;
+      this.continuationsToken = continuationsToken;
+    }
+  }
+
+  private class IncrementalPlaylist implements IncrementalAudioPlaylist {
+    private final String name;
+    private final List<AudioTrack> tracks;
+    private final Supplier<HttpInterface> pageInterfaceSource;
+    private final Function<AudioTrackInfo, AudioTrack> trackFactory;
+    private String continuationsToken;
+    private int remainingPages;
+
+    private IncrementalPlaylist(String name, List<AudioTrack> tracks, String continuationsToken, int remainingPages,
+                                Supplier<HttpInterface> pageInterfaceSource,
+                                Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+      this.name = name;
+      this.tracks = tracks;
+      this.continuationsToken = continuationsToken;
+      this.remainingPages = remainingPages;
+      this.pageInterfaceSource = pageInterfaceSource;
+      this.trackFactory = trackFactory;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public List<AudioTrack> getTracks() {
+      return tracks;
+    }
+
+    @Override
+    public AudioTrack getSelectedTrack() {
+      return null;
+    }
+
+    @Override
+    public boolean isSearchResult() {
+      return false;
+    }
+
+    @Override
+    public synchronized boolean isComplete() {
+      return continuationsToken == null || remainingPages <= 0;
+    }
+
+    @Override
+    public synchronized List<AudioTrack> loadNextPage() {
+      if (isComplete()) {
+        return Collections.emptyList();
+      }
+
+      List<AudioTrack> pageTracks = new ArrayList<>();
+
+      try (HttpInterface httpInterface = pageInterfaceSource.get()) {
+        continuationsToken = loadContinuation(httpInterface, continuationsToken, pageTracks, trackFactory);
+        remainingPages--;
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+
+      // Appended all at once, so that the track list is copied only once per page
+      tracks.addAll(pageTracks);
+      return pageTracks;
+    }
+
+    @Override
+    public synchronized IncrementalAudioPlaylist makeClone() {
+      List<AudioTrack> trackClones = new ArrayList<>(tracks.size());
+
+      for (AudioTrack track : tracks) {
+        trackClones.add(track.makeClone());
+      }
+
+      return new IncrementalPlaylist(name, new CopyOnWriteArrayList<>(trackClones), continuationsToken, remainingPages,
+          pageInterfaceSource, trackFactory);
+    }
+  }
 }
@@ -4,10 +4,12 @@ import com.sedmelluq.discord.lavaplayer.tools.DataFormatTools;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
 import com.sedmelluq.discord.lavaplayer.tools.JsonBrowser;
+import com.sedmelluq.discord.lavaplayer.tools.RequestCoalescer;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import java.io.IOException;
 import java.net.URLEncoder;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -38,15 +40,22 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
       "\"PLAYER_CONFIG\":"
   };
 
+  private static final long PLAYER_SCRIPT_REFRESH_INTERVAL = 600000L;
+
+  private final RequestCoalescer<String, YoutubeTrackDetails> detailLoads = new RequestCoalescer<>();
+  private final AtomicBoolean playerScriptRefreshing = new AtomicBoolean();
   private volatile CachedPlayerScript cachedPlayerScript = null;
 
   @Override
   public YoutubeTrackDetails loadDetails(HttpInterface httpInterface, String videoId, boolean requireFormats) {
-    try {
-      return load(httpInterface, videoId, requireFormats);
-    } catch (IOException e) {
-      throw ExceptionTools.toRuntimeException(e);
-    }
+    // Details are immutable, so concurrent loads of the same video can all use the result of one request
+    return detailLoads.request(videoId + (requireFormats ? ":formats" : ""), () -> {
+      try {
+        return load(httpInterface, videoId, requireFormats);
+      } catch (IOException e) {
+        throw ExceptionTools.toRuntimeException(e);
+      }
+    });
   }
 
   private YoutubeTrackDetails load(
@@ -277,10 +286,23 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
 
     CachedPlayerScript cached = cachedPlayerScript;
 
-    if (cached != null && cached.timestamp + 600000L >= now) {
-      return data.withPlayerScriptUrl(cached.playerScriptUrl);
+    if (cached == null) {
+      return data.withPlayerScriptUrl(fetchPlayerScript(httpInterface, now));
+    } else if (cached.timestamp + PLAYER_SCRIPT_REFRESH_INTERVAL < now && playerScriptRefreshing.compareAndSet(false, true)) {
+      // Only this load waits for the refresh, others keep using the previous script until it is done
+      try {
+        return data.withPlayerScriptUrl(fetchPlayerScript(httpInterface, now));
+      } catch (Exception e) {
+        log.warn("Failed to refresh player script URL, using the previous one.", e);
+      } finally {
+        playerScriptRefreshing.set(false);
+      }
     }
 
+    return data.withPlayerScriptUrl(cached.playerScriptUrl);
+  }
+
+  private String fetchPlayerScript(HttpInterface httpInterface, long now) throws IOException {
     try (CloseableHttpResponse response = httpInterface.execute(new HttpGet("https://www.youtube.com"))) {
       HttpClientTools.assertSuccessWithContent(response, "youtube root");
 
@@ -294,7 +316,7 @@ public class DefaultYoutubeTrackDetailsLoader implements YoutubeTrackDetailsLoad
       String fetchedPlayerScript = JsonBrowser.parse("{\"url\":\"" + encodedUrl + "\"}").get("url").text();
       cachedPlayerScript = new CachedPlayerScript(fetchedPlayerScript, now);
 
-      return data.withPlayerScriptUrl(fetchedPlayerScript);
+      return fetchedPlayerScript;
     }
   }
 
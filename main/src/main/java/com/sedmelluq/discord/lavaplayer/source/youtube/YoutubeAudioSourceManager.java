@@ -1,9 +1,12 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager;
+import com.sedmelluq.discord.lavaplayer.player.cache.AudioItemCacheTools;
 import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager;
+import com.sedmelluq.discord.lavaplayer.source.SearchResultCache;
 import com.sedmelluq.discord.lavaplayer.tools.ExceptionTools;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
+import com.sedmelluq.discord.lavaplayer.tools.RequestCoalescer;
 import com.sedmelluq.discord.lavaplayer.tools.http.ExtendedHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.http.MultiHttpConfigurable;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
@@ -19,8 +22,12 @@ import java.io.DataOutput;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -50,6 +57,10 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
   private final YoutubePlaylistLoader playlistLoader;
   private final YoutubeLinkRouter linkRouter;
   private final LoadingRoutes loadingRoutes;
+  private final LoadingRoutes incrementalLoadingRoutes;
+  private final RequestCoalescer<String, AudioItem> itemLoads;
+  private final RequestCoalescer<String, AudioItem> incrementalItemLoads;
+  private volatile SearchResultCache searchResultCache;
 
   /**
    * Create an instance with default settings.
@@ -96,7 +107,10 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     this.playlistLoader = playlistLoader;
     this.linkRouter = linkRouter;
     this.mixLoader = mixLoader;
-    this.loadingRoutes = new LoadingRoutes();
+    this.loadingRoutes = new LoadingRoutes(false);
+    this.incrementalLoadingRoutes = new LoadingRoutes(true);
+    this.itemLoads = new RequestCoalescer<>(YoutubeAudioSourceManager::shareLoadedItem);
+    this.incrementalItemLoads = new RequestCoalescer<>(YoutubeAudioSourceManager::shareLoadedItem);
 
     combinedHttpConfiguration = new MultiHttpConfigurable(Arrays.asList(
         httpInterfaceManager,
@@ -120,6 +134,14 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     playlistLoader.setPlaylistPageCount(playlistPageCount);
   }
 
+  /**
+   * @param searchResultCache Cache for the results of YouTube and YouTube Music searches, which can be shared with other
+   *                          source managers, <code>null</code> to disable caching
+   */
+  public void setSearchResultCache(SearchResultCache searchResultCache) {
+    this.searchResultCache = searchResultCache;
+  }
+
   @Override
   public String getSourceName() {
     return "youtube";
@@ -127,12 +149,55 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
 
   @Override
   public AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
+    if (reference.identifier == null) {
+      return null;
+    }
+
+    // Bursts of loads for the same link are common, only one of them is sent to YouTube
+    return itemLoads.request(reference.identifier, () -> loadItemWithRetry(reference, loadingRoutes));
+  }
+
+  /**
+   * Loads playlist links without a selected video one page at a time: the returned
+   * {@link com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist} holds the first page and loads the rest
+   * on demand.
+   */
+  @Override
+  public AudioItem loadItemIncrementally(AudioPlayerManager manager, AudioReference reference) {
+    if (reference.identifier == null) {
+      return null;
+    }
+
+    return incrementalItemLoads.request(reference.identifier,
+        () -> loadItemWithRetry(reference, incrementalLoadingRoutes));
+  }
+
+  @Override
+  public CompletionStage<AudioItem> loadItemAsync(AudioPlayerManager manager, AudioReference reference,
+                                                  Executor executor) {
+
+    if (reference.identifier == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // Loads which join one already in progress do not take up an executor thread
+    return itemLoads.requestAsync(reference.identifier,
+        () -> CompletableFuture.supplyAsync(() -> loadItemWithRetry(reference, loadingRoutes), executor));
+  }
+
+  private static AudioItem shareLoadedItem(AudioItem item) {
+    // References are immutable, tracks and playlists are not, so each load gets its own copy of them
+    AudioItem clone = AudioItemCacheTools.cloneItem(item);
+    return clone != null ? clone : item;
+  }
+
+  private AudioItem loadItemWithRetry(AudioReference reference, LoadingRoutes routes) {
     try {
-      return loadItemOnce(reference);
+      return loadItemOnce(reference, routes);
     } catch (FriendlyException exception) {
       // In case of a connection reset exception, try once more.
       if (HttpClientTools.isRetriableNetworkException(exception.getCause())) {
-        return loadItemOnce(reference);
+        return loadItemOnce(reference, routes);
       } else {
         throw exception;
       }
@@ -192,8 +257,8 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     return searchMusicResultLoader.getHttpConfiguration();
   }
 
-  private AudioItem loadItemOnce(AudioReference reference) {
-    return linkRouter.route(reference.identifier, loadingRoutes);
+  private AudioItem loadItemOnce(AudioReference reference, LoadingRoutes routes) {
+    return linkRouter.route(reference.identifier, routes);
   }
 
   /**
@@ -226,6 +291,11 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
   }
 
   private class LoadingRoutes implements YoutubeLinkRouter.Routes<AudioItem> {
+    private final boolean incremental;
+
+    private LoadingRoutes(boolean incremental) {
+      this.incremental = incremental;
+    }
 
     @Override
     public AudioItem track(String videoId) {
@@ -237,6 +307,12 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
       log.debug("Starting to load playlist with ID {}", playlistId);
 
       try (HttpInterface httpInterface = getHttpInterface()) {
+        if (incremental && selectedVideoId == null) {
+          // The remaining pages are loaded later, so that the first tracks can be played right away
+          return playlistLoader.loadIncremental(httpInterface, YoutubeAudioSourceManager.this::getHttpInterface,
+              playlistId, YoutubeAudioSourceManager.this::buildTrackFromInfo);
+        }
+
         return playlistLoader.load(httpInterface, playlistId, selectedVideoId,
             YoutubeAudioSourceManager.this::buildTrackFromInfo);
       } catch (Exception e) {
@@ -259,10 +335,8 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     @Override
     public AudioItem search(String query) {
       if (allowSearch) {
-        return searchResultLoader.loadSearchResult(
-            query,
-            YoutubeAudioSourceManager.this::buildTrackFromInfo
-        );
+        return searchWithCache("ytsearch", query, "Search results for: " + query,
+            () -> searchResultLoader.loadSearchResult(query, YoutubeAudioSourceManager.this::buildTrackFromInfo));
       }
 
       return null;
@@ -271,15 +345,26 @@ public class YoutubeAudioSourceManager implements AudioSourceManager, HttpConfig
     @Override
     public AudioItem searchMusic(String query) {
       if (allowSearch) {
-        return searchMusicResultLoader.loadSearchMusicResult(
-            query,
-            YoutubeAudioSourceManager.this::buildTrackFromInfo
-        );
+        return searchWithCache("ytmsearch", query, "Search music results for: " + query,
+            () -> searchMusicResultLoader.loadSearchMusicResult(query,
+                YoutubeAudioSourceManager.this::buildTrackFromInfo));
       }
 
       return null;
     }
 
+    private AudioItem searchWithCache(String namespace, String query, String playlistName,
+                                      Supplier<AudioItem> search) {
+
+      SearchResultCache cache = searchResultCache;
+
+      if (cache == null) {
+        return search.get();
+      }
+
+      return cache.search(namespace, query, playlistName, YoutubeAudioSourceManager.this::buildTrackFromInfo, search);
+    }
+
     @Override
     public AudioItem anonymous(String videoIds) {
       try (HttpInterface httpInterface = getHttpInterface()) {
@@ -8,10 +8,12 @@ import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import com.sedmelluq.discord.lavaplayer.track.DelegatedAudioTrack;
+import com.sedmelluq.discord.lavaplayer.track.PreparableAudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor;
 import java.net.URI;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,10 +23,11 @@ import static com.sedmelluq.discord.lavaplayer.tools.FriendlyException.Severity.
 /**
  * Audio track that handles processing Youtube videos as audio tracks.
  */
-public class YoutubeAudioTrack extends DelegatedAudioTrack {
+public class YoutubeAudioTrack extends DelegatedAudioTrack implements PreparableAudioTrack {
   private static final Logger log = LoggerFactory.getLogger(YoutubeAudioTrack.class);
 
   private final YoutubeAudioSourceManager sourceManager;
+  private volatile PreparedFormat preparedFormat;
 
   /**
    * @param trackInfo Track info
@@ -39,7 +42,11 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
   @Override
   public void process(LocalAudioTrackExecutor localExecutor) throws Exception {
     try (HttpInterface httpInterface = sourceManager.getHttpInterface()) {
-      FormatWithUrl format = loadBestFormatWithUrl(httpInterface);
+      FormatWithUrl format = takePreparedFormat();
+
+      if (format == null) {
+        format = loadBestFormatWithUrl(httpInterface);
+      }
 
       log.debug("Starting track from URL: {}", format.signedUrl);
 
@@ -51,6 +58,31 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
     }
   }
 
+  @Override
+  public void prepare(long lifetime) throws Exception {
+    try (HttpInterface httpInterface = sourceManager.getHttpInterface()) {
+      FormatWithUrl format = loadBestFormatWithUrl(httpInterface);
+      preparedFormat = new PreparedFormat(format, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lifetime));
+    }
+  }
+
+  @Override
+  public void discardPrepared() {
+    preparedFormat = null;
+  }
+
+  private FormatWithUrl takePreparedFormat() {
+    PreparedFormat prepared = preparedFormat;
+    preparedFormat = null;
+
+    if (prepared != null && prepared.expirationTime - System.nanoTime() > 0) {
+      log.debug("Using format prepared in advance for track {}.", getIdentifier());
+      return prepared.format;
+    }
+
+    return null;
+  }
+
   private void processStatic(LocalAudioTrackExecutor localExecutor, HttpInterface httpInterface, FormatWithUrl format) throws Exception {
     try (YoutubePersistentHttpStream stream = new YoutubePersistentHttpStream(httpInterface, format.signedUrl, format.details.getContentLength())) {
       if (format.details.getType().getMimeType().endsWith("/webm")) {
@@ -85,7 +117,7 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
     YoutubeTrackFormat format = findBestSupportedFormat(formats);
 
     URI signedUrl = sourceManager.getSignatureResolver()
-        .resolveFormatUrl(httpInterface, details.getPlayerScript(), format);
+        .resolveFormatUrl(httpInterface, details.getPlayerScript(), getIdentifier(), format);
 
     return new FormatWithUrl(format, signedUrl);
   }
@@ -141,4 +173,14 @@ public class YoutubeAudioTrack extends DelegatedAudioTrack {
       this.signedUrl = signedUrl;
     }
   }
+
+  private static class PreparedFormat {
+    private final FormatWithUrl format;
+    private final long expirationTime;
+
+    private PreparedFormat(FormatWithUrl format, long expirationTime) {
+      this.format = format;
+      this.expirationTime = expirationTime;
+    }
+  }
 }
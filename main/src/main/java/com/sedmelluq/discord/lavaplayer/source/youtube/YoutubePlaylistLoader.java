@@ -5,10 +5,28 @@ import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrack;
 import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public interface YoutubePlaylistLoader {
   void setPlaylistPageCount(int playlistPageCount);
 
   AudioPlaylist load(HttpInterface httpInterface, String playlistId, String selectedVideoId,
                      Function<AudioTrackInfo, AudioTrack> trackFactory);
+
+  /**
+   * Loads the first page of a playlist, returning an {@link com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist}
+   * which loads the rest of the pages on demand. Loaders which do not support this load the whole playlist.
+   *
+   * @param httpInterface HTTP interface to use for loading the first page
+   * @param pageInterfaceSource Source of HTTP interfaces for loading the following pages, which can happen on any
+   *                            thread after this method has returned
+   * @param playlistId ID of the playlist
+   * @param trackFactory Factory for the tracks of the playlist
+   * @return The playlist
+   */
+  default AudioPlaylist loadIncremental(HttpInterface httpInterface, Supplier<HttpInterface> pageInterfaceSource,
+                                        String playlistId, Function<AudioTrackInfo, AudioTrack> trackFactory) {
+
+    return load(httpInterface, playlistId, null, trackFactory);
+  }
 }
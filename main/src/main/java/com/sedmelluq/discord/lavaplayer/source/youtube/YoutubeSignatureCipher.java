@@ -1,42 +1,74 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Describes one signature cipher
+ * Describes one signature cipher. The operations only move characters around depending on their positions, so for
+ * each signature length they are compiled once into a map from output positions to input positions.
  */
 public class YoutubeSignatureCipher {
   private final List<YoutubeCipherOperation> operations = new ArrayList<>();
+  private final ConcurrentMap<Integer, int[]> programs = new ConcurrentHashMap<>();
 
   /**
    * @param text Text to apply the cipher on
    * @return The result of the cipher on the input text
    */
   public String apply(String text) {
-    StringBuilder builder = new StringBuilder(text);
+    int[] program = programs.computeIfAbsent(text.length(), this::compile);
+    char[] result = new char[program.length];
+
+    for (int i = 0; i < program.length; i++) {
+      result[i] = text.charAt(program[i]);
+    }
+
+    return new String(result);
+  }
+
+  private int[] compile(int length) {
+    // Apply the operations to the positions of the characters instead of the characters themselves
+    int[] positions = new int[length];
+    int start = 0;
+
+    for (int i = 0; i < length; i++) {
+      positions[i] = i;
+    }
 
     for (YoutubeCipherOperation operation : operations) {
       switch (operation.type) {
         case SWAP:
-          int position = operation.parameter % text.length();
-          char temp = builder.charAt(0);
-          builder.setCharAt(0, builder.charAt(position));
-          builder.setCharAt(position, temp);
+          int position = operation.parameter % length;
+
+          if (start + position >= length) {
+            throw new StringIndexOutOfBoundsException(position);
+          }
+
+          int temp = positions[start];
+          positions[start] = positions[start + position];
+          positions[start + position] = temp;
           break;
         case REVERSE:
-          builder.reverse();
+          for (int left = start, right = length - 1; left < right; left++, right--) {
+            int swapped = positions[left];
+            positions[left] = positions[right];
+            positions[right] = swapped;
+          }
           break;
         case SLICE:
         case SPLICE:
-          builder.delete(0, operation.parameter);
+          start = Math.min(length, start + operation.parameter);
           break;
         default:
           throw new IllegalStateException("All branches should be covered");
       }
     }
 
-    return builder.toString();
+    return Arrays.copyOfRange(positions, start, length);
   }
 
   /**
@@ -44,6 +76,14 @@ public class YoutubeSignatureCipher {
    */
   public void addOperation(YoutubeCipherOperation operation) {
     operations.add(operation);
+    programs.clear();
+  }
+
+  /**
+   * @return The operations of this cipher in the order they are applied
+   */
+  public List<YoutubeCipherOperation> getOperations() {
+    return Collections.unmodifiableList(operations);
   }
 
   /**
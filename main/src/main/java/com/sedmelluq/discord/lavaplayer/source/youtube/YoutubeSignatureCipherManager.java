@@ -1,19 +1,26 @@
 package com.sedmelluq.discord.lavaplayer.source.youtube;
 
+import com.sedmelluq.discord.lavaplayer.tools.RequestCoalescer;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpClientTools;
 import com.sedmelluq.discord.lavaplayer.tools.io.HttpInterface;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -67,18 +74,31 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
   private static final Pattern swapPattern = Pattern.compile(PATTERN_PREFIX + SWAP_PART, Pattern.MULTILINE);
 
   private static final Pattern signatureExtraction = Pattern.compile("/s/([^/]+)/");
+  private static final Pattern expireExtraction = Pattern.compile("[?&]expire=(\\d+)");
+  private static final Pattern itagExtraction = Pattern.compile("[?&]itag=(\\d+)");
+
+  private static final int SNAPSHOT_VERSION = 1;
+  private static final int RESOLVED_URL_CACHE_SIZE = 1000;
+  private static final long RESOLVED_URL_EXPIRY_MARGIN = TimeUnit.MINUTES.toMillis(30);
 
   private final ConcurrentMap<String, YoutubeSignatureCipher> cipherCache;
+  private final RequestCoalescer<String, YoutubeSignatureCipher> cipherLoads;
+  private final Map<String, ResolvedUrl> resolvedUrls;
   private final Set<String> dumpedScriptUrls;
-  private final Object cipherLoadLock;
 
   /**
    * Create a new signature cipher manager
    */
   public YoutubeSignatureCipherManager() {
     this.cipherCache = new ConcurrentHashMap<>();
-    this.dumpedScriptUrls = new HashSet<>();
-    this.cipherLoadLock = new Object();
+    this.cipherLoads = new RequestCoalescer<>();
+    this.resolvedUrls = new LinkedHashMap<String, ResolvedUrl>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ResolvedUrl> eldest) {
+        return size() > RESOLVED_URL_CACHE_SIZE;
+      }
+    };
+    this.dumpedScriptUrls = ConcurrentHashMap.newKeySet();
   }
 
   /**
@@ -91,6 +111,23 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
    */
   @Override
   public URI resolveFormatUrl(HttpInterface httpInterface, String playerScript, YoutubeTrackFormat format) throws IOException {
+    return resolveFormatUrl(httpInterface, playerScript, null, format);
+  }
+
+  /**
+   * Produces a valid playback URL for the specified track. A URL resolved earlier for the same format of the same video
+   * is reused while it is not close to expiring.
+   * @param httpInterface HTTP interface to use
+   * @param playerScript Address of the script which is used to decipher signatures
+   * @param videoId ID of the video the format belongs to, null if not known
+   * @param format The track for which to get the URL
+   * @return Valid playback URL
+   * @throws IOException On network IO error
+   */
+  @Override
+  public URI resolveFormatUrl(HttpInterface httpInterface, String playerScript, String videoId,
+                              YoutubeTrackFormat format) throws IOException {
+
     String signature = format.getSignature();
     URI initialUrl = format.getUrl();
 
@@ -98,16 +135,59 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
       return initialUrl;
     }
 
+    // Each player response has a different signature and URL, so only the video and format identify a resolved URL
+    String itag = findUrlParameter(itagExtraction, initialUrl);
+    String cacheKey = videoId != null && itag != null ? videoId + " " + itag : null;
+    URI cachedUrl = cacheKey != null ? getResolvedUrl(cacheKey) : null;
+
+    if (cachedUrl != null) {
+      return cachedUrl;
+    }
+
     YoutubeSignatureCipher cipher = getCipherKeyFromScript(httpInterface, playerScript);
+    URI resolvedUrl;
 
     try {
-      return new URIBuilder(initialUrl)
+      resolvedUrl = new URIBuilder(initialUrl)
           .setParameter("ratebypass", "yes")
           .setParameter(format.getSignatureKey(), cipher.apply(signature))
           .build();
     } catch (URISyntaxException e) {
       throw new RuntimeException(e);
     }
+
+    String expire = findUrlParameter(expireExtraction, initialUrl);
+
+    if (cacheKey != null && expire != null) {
+      // Not handed out once it is close to expiring, as it must stay valid for the whole playback
+      long usableUntil = TimeUnit.SECONDS.toMillis(Long.parseLong(expire)) - RESOLVED_URL_EXPIRY_MARGIN;
+
+      synchronized (resolvedUrls) {
+        resolvedUrls.put(cacheKey, new ResolvedUrl(resolvedUrl, usableUntil));
+      }
+    }
+
+    return resolvedUrl;
+  }
+
+  private static String findUrlParameter(Pattern pattern, URI url) {
+    Matcher matcher = pattern.matcher(url.toString());
+    return matcher.find() ? matcher.group(1) : null;
+  }
+
+  private URI getResolvedUrl(String cacheKey) {
+    synchronized (resolvedUrls) {
+      ResolvedUrl resolved = resolvedUrls.get(cacheKey);
+
+      if (resolved == null) {
+        return null;
+      } else if (resolved.usableUntil <= System.currentTimeMillis()) {
+        resolvedUrls.remove(cacheKey);
+        return null;
+      }
+
+      return resolved.url;
+    }
   }
 
   /**
@@ -134,19 +214,106 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
     YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
 
     if (cipherKey == null) {
-      synchronized (cipherLoadLock) {
-        log.debug("Parsing cipher from player script {}.", cipherScriptUrl);
+      // Only loads which need this same script wait for it, others continue with the ciphers they already have
+      try {
+        cipherKey = cipherLoads.request(cipherScriptUrl, () -> {
+          try {
+            return loadCipherKeyFromScript(httpInterface, cipherScriptUrl);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
 
-        try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
-          validateResponseCode(cipherScriptUrl, response);
+    return cipherKey;
+  }
 
-          cipherKey = extractTokensFromScript(IOUtils.toString(response.getEntity().getContent(), "UTF-8"), cipherScriptUrl);
-          cipherCache.put(cipherScriptUrl, cipherKey);
+  private YoutubeSignatureCipher loadCipherKeyFromScript(HttpInterface httpInterface, String cipherScriptUrl)
+      throws IOException {
+
+    YoutubeSignatureCipher cipherKey = cipherCache.get(cipherScriptUrl);
+
+    if (cipherKey != null) {
+      return cipherKey;
+    }
+
+    log.debug("Parsing cipher from player script {}.", cipherScriptUrl);
+
+    try (CloseableHttpResponse response = httpInterface.execute(new HttpGet(parseTokenScriptUrl(cipherScriptUrl)))) {
+      validateResponseCode(cipherScriptUrl, response);
+
+      cipherKey = extractTokensFromScript(IOUtils.toString(response.getEntity().getContent(), "UTF-8"), cipherScriptUrl);
+      cipherCache.put(cipherScriptUrl, cipherKey);
+    }
+
+    return cipherKey;
+  }
+
+  /**
+   * Writes all known ciphers to the output, so that another instance can start with them instead of fetching and
+   * parsing the player scripts again.
+   *
+   * @param output Output to write the snapshot to
+   * @throws IOException On write error
+   */
+  public void exportSnapshot(DataOutput output) throws IOException {
+    List<Map.Entry<String, YoutubeSignatureCipher>> entries = new ArrayList<>(cipherCache.entrySet());
+
+    output.writeByte(SNAPSHOT_VERSION);
+    output.writeInt(entries.size());
+
+    for (Map.Entry<String, YoutubeSignatureCipher> entry : entries) {
+      List<YoutubeCipherOperation> operations = entry.getValue().getOperations();
+
+      output.writeUTF(entry.getKey());
+      output.writeShort(operations.size());
+
+      for (YoutubeCipherOperation operation : operations) {
+        output.writeByte(operation.type.ordinal());
+        output.writeInt(operation.parameter);
+      }
+    }
+  }
+
+  /**
+   * Adds the ciphers from a snapshot written by {@link #exportSnapshot(DataOutput)}. Ciphers which are already known
+   * are kept as they are.
+   *
+   * @param input Input to read the snapshot from
+   * @throws IOException On read error or if the snapshot is not in a supported format
+   */
+  public void importSnapshot(DataInput input) throws IOException {
+    int version = input.readUnsignedByte();
+
+    if (version != SNAPSHOT_VERSION) {
+      throw new IOException("Unsupported cipher snapshot version " + version);
+    }
+
+    YoutubeCipherOperationType[] types = YoutubeCipherOperationType.values();
+    int cipherCount = input.readInt();
+
+    for (int i = 0; i < cipherCount; i++) {
+      String scriptUrl = input.readUTF();
+      int operationCount = input.readUnsignedShort();
+      YoutubeSignatureCipher cipher = new YoutubeSignatureCipher();
+
+      for (int j = 0; j < operationCount; j++) {
+        int type = input.readUnsignedByte();
+
+        if (type >= types.length) {
+          throw new IOException("Unknown cipher operation type " + type);
         }
+
+        cipher.addOperation(new YoutubeCipherOperation(types[type], input.readInt()));
       }
+
+      cipherCache.putIfAbsent(scriptUrl, cipher);
     }
 
-    return cipherKey;
+    log.debug("Imported {} ciphers from a snapshot.", cipherCount);
   }
 
   private void validateResponseCode(String cipherScriptUrl, CloseableHttpResponse response) throws IOException {
@@ -253,4 +420,14 @@ public class YoutubeSignatureCipherManager implements YoutubeSignatureResolver {
       throw new RuntimeException(e);
     }
   }
+
+  private static class ResolvedUrl {
+    private final URI url;
+    private final long usableUntil;
+
+    private ResolvedUrl(URI url, long usableUntil) {
+      this.url = url;
+      this.usableUntil = usableUntil;
+    }
+  }
 }
@@ -6,5 +6,22 @@ import java.net.URI;
 public interface YoutubeSignatureResolver {
   URI resolveFormatUrl(HttpInterface httpInterface, String playerScript, YoutubeTrackFormat format) throws Exception;
 
+  /**
+   * Same as {@link #resolveFormatUrl(HttpInterface, String, YoutubeTrackFormat)}, except that the resolver knows which
+   * video the format belongs to, so it may reuse a URL it resolved for the same format of the video before.
+   *
+   * @param httpInterface HTTP interface to use
+   * @param playerScript Address of the script which is used to decipher signatures
+   * @param videoId ID of the video the format belongs to
+   * @param format The track for which to get the URL
+   * @return Valid playback URL
+   * @throws Exception On failure to resolve the URL
+   */
+  default URI resolveFormatUrl(HttpInterface httpInterface, String playerScript, String videoId,
+                               YoutubeTrackFormat format) throws Exception {
+
+    return resolveFormatUrl(httpInterface, playerScript, format);
+  }
+
   String resolveDashUrl(HttpInterface httpInterface, String playerScript, String dashUrl) throws Exception;
 }
@@ -167,6 +167,45 @@ public class DataFormatTools {
     return exists ? input.readUTF() : null;
   }
 
+  /**
+   * Writes a non-negative number using as few bytes as needed, 7 bits per byte. Compatible with
+   * {@link #readVarLong(DataInput)}.
+   *
+   * @param output Output to write to.
+   * @param value Value to write, negative values take the maximum of 10 bytes.
+   * @throws IOException On write error.
+   */
+  public static void writeVarLong(DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+
+    output.writeByte((int) value);
+  }
+
+  /**
+   * Reads a number written with {@link #writeVarLong(DataOutput, long)}.
+   *
+   * @param input Input to read from.
+   * @return The number that was read.
+   * @throws IOException On read error or if the number is longer than 10 bytes.
+   */
+  public static long readVarLong(DataInput input) throws IOException {
+    long value = 0;
+
+    for (int shift = 0; shift < 64; shift += 7) {
+      int next = input.readUnsignedByte();
+      value |= (long) (next & 0x7F) << shift;
+
+      if ((next & 0x80) == 0) {
+        return value;
+      }
+    }
+
+    throw new IOException("Variable length number is too long.");
+  }
+
   public static boolean arrayRangeEquals(byte[] array, int offset, byte[] segment) {
     if (array.length < offset + segment.length) {
       return false;
@@ -0,0 +1,117 @@
+package com.sedmelluq.discord.lavaplayer.tools;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Merges concurrent requests with the same key into one. The first caller for a key performs the request, callers
+ * which arrive while it is still in progress wait for it and receive its result or exception instead of performing the
+ * same request again. Nothing is kept after the request completes, so this is not a cache.
+ *
+ * @param <K> Type of the request key
+ * @param <V> Type of the result
+ */
+public class RequestCoalescer<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> inProgress;
+  private final UnaryOperator<V> shareFunction;
+
+  /**
+   * @param shareFunction Function which creates the instance of the result that is given to a caller that joined a
+   *                      request of another caller, for results which are not safe to share between callers.
+   */
+  public RequestCoalescer(UnaryOperator<V> shareFunction) {
+    this.inProgress = new ConcurrentHashMap<>();
+    this.shareFunction = shareFunction;
+  }
+
+  /**
+   * Creates an instance for results which are immutable and can be given to all callers as is.
+   */
+  public RequestCoalescer() {
+    this(UnaryOperator.identity());
+  }
+
+  /**
+   * @param key Key of the request, requests with equal keys are merged
+   * @param request The request to perform unless the same request is already in progress
+   * @return Result of the request
+   */
+  public V request(K key, Supplier<V> request) {
+    CompletableFuture<V> ownRequest = new CompletableFuture<>();
+    CompletableFuture<V> existingRequest = inProgress.putIfAbsent(key, ownRequest);
+
+    if (existingRequest != null) {
+      return join(existingRequest);
+    }
+
+    try {
+      V result = request.get();
+      ownRequest.complete(result);
+      return result;
+    } catch (Throwable throwable) {
+      ownRequest.completeExceptionally(throwable);
+      throw throwable;
+    } finally {
+      inProgress.remove(key, ownRequest);
+    }
+  }
+
+  /**
+   * Asynchronous version of {@link #request(Object, Supplier)}. Callers which join a request in progress do not block
+   * any thread while waiting for it.
+   *
+   * @param key Key of the request, requests with equal keys are merged
+   * @param request Starts the request unless the same request is already in progress
+   * @return Future for the result of the request
+   */
+  public CompletableFuture<V> requestAsync(K key, Supplier<CompletableFuture<V>> request) {
+    CompletableFuture<V> ownRequest = new CompletableFuture<>();
+    CompletableFuture<V> existingRequest = inProgress.putIfAbsent(key, ownRequest);
+
+    if (existingRequest != null) {
+      return existingRequest.thenApply(result -> result != null ? shareFunction.apply(result) : null);
+    }
+
+    try {
+      request.get().whenComplete((result, throwable) -> {
+        inProgress.remove(key, ownRequest);
+
+        if (throwable != null) {
+          ownRequest.completeExceptionally(unwrap(throwable));
+        } else {
+          ownRequest.complete(result);
+        }
+      });
+    } catch (Throwable throwable) {
+      inProgress.remove(key, ownRequest);
+      ownRequest.completeExceptionally(throwable);
+    }
+
+    return ownRequest;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+  }
+
+  private V join(CompletableFuture<V> existingRequest) {
+    V result;
+
+    try {
+      result = existingRequest.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      ExceptionTools.rethrowErrors(e.getCause());
+      throw ExceptionTools.toRuntimeException((Exception) e.getCause());
+    }
+
+    return result != null ? shareFunction.apply(result) : null;
+  }
+}
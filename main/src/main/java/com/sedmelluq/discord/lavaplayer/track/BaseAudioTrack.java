@@ -8,15 +8,21 @@ import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame;
 import com.sedmelluq.discord.lavaplayer.track.playback.PrimordialAudioTrackExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Abstract base for all audio tracks with an executor
  */
 public abstract class BaseAudioTrack implements InternalAudioTrack {
-  private final PrimordialAudioTrackExecutor initialExecutor;
-  private final AtomicBoolean executorAssigned;
+  private static final AtomicReferenceFieldUpdater<BaseAudioTrack, PrimordialAudioTrackExecutor> initialExecutorUpdater =
+      AtomicReferenceFieldUpdater.newUpdater(BaseAudioTrack.class, PrimordialAudioTrackExecutor.class, "initialExecutor");
+  private static final AtomicIntegerFieldUpdater<BaseAudioTrack> executorAssignedUpdater =
+      AtomicIntegerFieldUpdater.newUpdater(BaseAudioTrack.class, "executorAssigned");
+
+  private volatile PrimordialAudioTrackExecutor initialExecutor;
+  private volatile int executorAssigned;
   private volatile AudioTrackExecutor activeExecutor;
   protected final AudioTrackInfo trackInfo;
   protected final AtomicLong accurateDuration;
@@ -26,8 +32,8 @@ public abstract class BaseAudioTrack implements InternalAudioTrack {
    * @param trackInfo Track info
    */
   public BaseAudioTrack(AudioTrackInfo trackInfo) {
-    this.initialExecutor = new PrimordialAudioTrackExecutor(trackInfo);
-    this.executorAssigned = new AtomicBoolean();
+    this.initialExecutor = null;
+    this.executorAssigned = 0;
     this.activeExecutor = null;
     this.trackInfo = trackInfo;
     this.accurateDuration = new AtomicLong();
@@ -35,9 +41,11 @@ public abstract class BaseAudioTrack implements InternalAudioTrack {
 
   @Override
   public void assignExecutor(AudioTrackExecutor executor, boolean applyPrimordialState) {
-    if (executorAssigned.compareAndSet(false, true)) {
-      if (applyPrimordialState) {
-        initialExecutor.applyStateToExecutor(executor);
+    if (executorAssignedUpdater.compareAndSet(this, 0, 1)) {
+      PrimordialAudioTrackExecutor initial = initialExecutor;
+
+      if (applyPrimordialState && initial != null) {
+        initial.applyStateToExecutor(executor);
       }
       activeExecutor = executor;
     } else {
@@ -48,7 +56,19 @@ public abstract class BaseAudioTrack implements InternalAudioTrack {
   @Override
   public AudioTrackExecutor getActiveExecutor() {
     AudioTrackExecutor executor = activeExecutor;
-    return executor != null ? executor : initialExecutor;
+    return executor != null ? executor : getInitialExecutor();
+  }
+
+  private PrimordialAudioTrackExecutor getInitialExecutor() {
+    PrimordialAudioTrackExecutor executor = initialExecutor;
+
+    // Most tracks in long queues are never touched before they are played, so this is only created when needed
+    if (executor == null) {
+      initialExecutorUpdater.compareAndSet(this, null, new PrimordialAudioTrackExecutor(trackInfo));
+      executor = initialExecutor;
+    }
+
+    return executor;
   }
 
   @Override
@@ -0,0 +1,28 @@
+package com.sedmelluq.discord.lavaplayer.track;
+
+import java.util.List;
+
+/**
+ * Playlist which is loaded one page at a time. Initially it contains only the tracks of the first page, the tracks of
+ * the following pages are appended to the track list by {@link #loadNextPage()} until the playlist is complete.
+ */
+public interface IncrementalAudioPlaylist extends AudioPlaylist {
+  /**
+   * @return True if all pages of the playlist have been loaded
+   */
+  boolean isComplete();
+
+  /**
+   * Loads the next page of the playlist and appends its tracks to the track list. Does nothing if the playlist is
+   * already complete.
+   *
+   * @return The tracks which were added to the playlist
+   */
+  List<AudioTrack> loadNextPage();
+
+  /**
+   * @return A clone of the playlist with clones of the tracks loaded so far, which loads the remaining pages
+   *         independently of this instance.
+   */
+  IncrementalAudioPlaylist makeClone();
+}
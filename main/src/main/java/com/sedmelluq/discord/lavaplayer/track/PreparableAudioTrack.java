@@ -0,0 +1,22 @@
+package com.sedmelluq.discord.lavaplayer.track;
+
+/**
+ * Track which can do the lookups needed to start its playback ahead of time, such as resolving the URL to play from,
+ * so that starting it later does not have to wait for them. Preparing only keeps the results of the lookups, it does
+ * not hold any connections open.
+ */
+public interface PreparableAudioTrack extends AudioTrack {
+  /**
+   * Performs the lookups needed to start playback and keeps their results for the next time this track is started.
+   * This blocks until the lookups are done, so it should be called from a background thread.
+   *
+   * @param lifetime Time in milliseconds after which the results are considered stale and not used anymore
+   * @throws Exception When the lookups fail, in which case they are performed again when the track is started
+   */
+  void prepare(long lifetime) throws Exception;
+
+  /**
+   * Discards the results of a previous {@link #prepare(long)} call, if any.
+   */
+  void discardPrepared();
+}
@@ -104,10 +104,12 @@ public class AllocatingAudioFrameBuffer extends AbstractAudioFrameBuffer {
   private boolean passToMutable(AudioFrame frame, MutableAudioFrame targetFrame) {
     if (targetFrame != null && frame != null) {
       if (frame.isTerminator()) {
+        targetFrame.setFormat(format);
         targetFrame.setTerminator(true);
       } else {
         targetFrame.setTimecode(frame.getTimecode());
         targetFrame.setVolume(frame.getVolume());
+        targetFrame.setFormat(frame.getFormat());
         targetFrame.store(frame.getData(), 0, frame.getDataLength());
         targetFrame.setTerminator(false);
       }
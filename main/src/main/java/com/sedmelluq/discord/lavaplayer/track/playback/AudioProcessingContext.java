@@ -1,5 +1,6 @@
 package com.sedmelluq.discord.lavaplayer.track.playback;
 
+import com.sedmelluq.discord.lavaplayer.filter.loudness.LoudnessTracker;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions;
@@ -28,6 +29,10 @@ public class AudioProcessingContext {
    * Whether filter factory change is applied to already playing tracks.
    */
   public final boolean filterHotSwapEnabled;
+  /**
+   * Loudness normalization state of the track, null if loudness normalization is disabled.
+   */
+  public final LoudnessTracker loudnessTracker;
 
   /**
    * @param configuration Audio encoding or filtering related configuration
@@ -38,10 +43,25 @@ public class AudioProcessingContext {
   public AudioProcessingContext(AudioConfiguration configuration, AudioFrameBuffer frameBuffer,
                                 AudioPlayerOptions playerOptions, AudioDataFormat outputFormat) {
 
+    this(configuration, frameBuffer, playerOptions, outputFormat, null);
+  }
+
+  /**
+   * @param configuration Audio encoding or filtering related configuration
+   * @param frameBuffer Frame buffer for the produced audio frames
+   * @param playerOptions State of the audio player.
+   * @param outputFormat Output format to use throughout this processing cycle
+   * @param loudnessTracker Loudness normalization state of the track, null if not normalized
+   */
+  public AudioProcessingContext(AudioConfiguration configuration, AudioFrameBuffer frameBuffer,
+                                AudioPlayerOptions playerOptions, AudioDataFormat outputFormat,
+                                LoudnessTracker loudnessTracker) {
+
     this.configuration = configuration;
     this.frameBuffer = frameBuffer;
     this.playerOptions = playerOptions;
     this.outputFormat = outputFormat;
     this.filterHotSwapEnabled = configuration.isFilterHotSwapEnabled();
+    this.loudnessTracker = loudnessTracker;
   }
 }
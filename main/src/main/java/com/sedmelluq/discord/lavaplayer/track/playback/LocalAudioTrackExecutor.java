@@ -1,5 +1,7 @@
 package com.sedmelluq.discord.lavaplayer.track.playback;
 
+import com.sedmelluq.discord.lavaplayer.filter.loudness.LoudnessNormalizer;
+import com.sedmelluq.discord.lavaplayer.filter.loudness.LoudnessTracker;
 import com.sedmelluq.discord.lavaplayer.format.AudioDataFormat;
 import com.sedmelluq.discord.lavaplayer.player.AudioConfiguration;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayerOptions;
@@ -60,10 +62,18 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
     this.audioTrack = audioTrack;
     AudioDataFormat currentFormat = configuration.getOutputFormat();
     this.frameBuffer = configuration.getFrameBufferFactory().create(bufferDuration, currentFormat, queuedStop);
-    this.processingContext = new AudioProcessingContext(configuration, frameBuffer, playerOptions, currentFormat);
+    this.processingContext = new AudioProcessingContext(configuration, frameBuffer, playerOptions, currentFormat,
+        createLoudnessTracker(audioTrack, configuration, currentFormat));
     this.useSeekGhosting = useSeekGhosting;
   }
 
+  private static LoudnessTracker createLoudnessTracker(InternalAudioTrack audioTrack, AudioConfiguration configuration,
+                                                      AudioDataFormat format) {
+
+    LoudnessNormalizer normalizer = configuration.getLoudnessNormalizer();
+    return normalizer != null ? normalizer.createTracker(audioTrack.getIdentifier(), format) : null;
+  }
+
   public AudioProcessingContext getProcessingContext() {
     return processingContext;
   }
@@ -104,6 +114,10 @@ public class LocalAudioTrackExecutor implements AudioTrackExecutor {
         audioTrack.process(this);
 
         log.debug("Playing track {} finished or was stopped.", audioTrack.getIdentifier());
+
+        if (processingContext.loudnessTracker != null) {
+          processingContext.loudnessTracker.finish();
+        }
       } catch (Throwable e) {
         // Temporarily clear the interrupted status so it would not disrupt listener methods.
         interrupt = findInterrupt(e);
@@ -144,8 +144,7 @@ public class NonAllocatingAudioFrameBuffer extends AbstractAudioFrameBuffer {
   public boolean provide(MutableAudioFrame targetFrame, long timeout, TimeUnit unit)
       throws TimeoutException, InterruptedException {
 
-    long currentTime = System.nanoTime();
-    long endTime = currentTime + unit.toMillis(timeout);
+    long endTime = System.nanoTime() + unit.toNanos(timeout);
 
     synchronized (synchronizer) {
       while (frameCount == 0) {
@@ -155,12 +154,13 @@ public class NonAllocatingAudioFrameBuffer extends AbstractAudioFrameBuffer {
           return true;
         }
 
-        synchronizer.wait(endTime - currentTime);
-        currentTime = System.nanoTime();
+        long remaining = endTime - System.nanoTime();
 
-        if (currentTime >= endTime) {
+        if (remaining <= 0) {
           throw new TimeoutException();
         }
+
+        TimeUnit.NANOSECONDS.timedWait(synchronizer, remaining);
       }
 
       popFrame(targetFrame);
@@ -179,6 +179,7 @@ public class NonAllocatingAudioFrameBuffer extends AbstractAudioFrameBuffer {
 
     targetFrame.setTimecode(frame.getTimecode());
     targetFrame.setVolume(frame.getVolume());
+    targetFrame.setFormat(frame.getFormat());
     targetFrame.setTerminator(false);
     targetFrame.store(frame.getFrameBuffer(), frame.getFrameOffset(), frame.getDataLength());
 
@@ -190,6 +191,7 @@ public class NonAllocatingAudioFrameBuffer extends AbstractAudioFrameBuffer {
     terminateOnEmpty = false;
     terminated = true;
 
+    frame.setFormat(format);
     frame.setTerminator(true);
   }
 
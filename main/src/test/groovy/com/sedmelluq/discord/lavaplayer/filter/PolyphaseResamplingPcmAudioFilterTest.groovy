@@ -0,0 +1,37 @@
+package com.sedmelluq.discord.lavaplayer.filter
+
+import spock.lang.Specification
+
+class PolyphaseResamplingPcmAudioFilterTest extends Specification {
+  def "flush outputs the samples still waiting in the filter window"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    PolyphaseResamplingPcmAudioFilter resampler = new PolyphaseResamplingPcmAudioFilter(2, recorder, 44100, 48000)
+    float[][] input = [new float[1000], new float[1000]]
+    input.each { Arrays.fill(it, 0.5f) }
+
+    when:
+    44.times { resampler.process(input, 0, 1000) }
+    int beforeFlush = recorder.samples.size()
+    resampler.flush()
+    int afterFlush = recorder.samples.size()
+
+    then:
+    // 44000 samples at 44100 Hz are 47891.2 samples at 48000 Hz
+    beforeFlush < 47892
+    afterFlush == 47892
+    Math.abs(recorder.samples[47800] - 0.5f) < 0.01f
+  }
+
+  def "flush without input outputs nothing"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    PolyphaseResamplingPcmAudioFilter resampler = new PolyphaseResamplingPcmAudioFilter(1, recorder, 44100, 48000)
+
+    when:
+    resampler.flush()
+
+    then:
+    recorder.samples.isEmpty()
+  }
+}
@@ -0,0 +1,27 @@
+package com.sedmelluq.discord.lavaplayer.filter
+
+/**
+ * Filter which records the samples of the first channel passed to it.
+ */
+class RecordingFilter implements FloatPcmAudioFilter {
+  final List<Float> samples = []
+
+  @Override
+  void process(float[][] input, int offset, int length) {
+    for (int i = 0; i < length; i++) {
+      samples.add(input[0][offset + i])
+    }
+  }
+
+  @Override
+  void seekPerformed(long requestedTime, long providedTime) {
+  }
+
+  @Override
+  void flush() {
+  }
+
+  @Override
+  void close() {
+  }
+}
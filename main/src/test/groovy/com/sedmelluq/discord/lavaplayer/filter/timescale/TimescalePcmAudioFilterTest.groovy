@@ -0,0 +1,114 @@
+package com.sedmelluq.discord.lavaplayer.filter.timescale
+
+import com.sedmelluq.discord.lavaplayer.filter.RecordingFilter
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class TimescalePcmAudioFilterTest extends Specification {
+  private static final int SAMPLE_RATE = 48000
+
+  @Unroll
+  def "output duration follows speed #speed and rate #rate"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    TimescaleConfiguration configuration = new TimescaleConfiguration()
+    configuration.speed = speed
+    configuration.rate = rate
+    TimescalePcmAudioFilter filter = new TimescalePcmAudioFilter(2, SAMPLE_RATE, recorder, configuration)
+
+    when:
+    feed(filter, sine(440, SAMPLE_RATE * 2))
+    filter.flush()
+    int length = recorder.samples.size()
+
+    then:
+    filter.speed == speed * rate
+    Math.abs(length - SAMPLE_RATE * 2 / (speed * rate)) < SAMPLE_RATE / 50
+
+    where:
+    speed | rate
+    1.0   | 1.0
+    2.0   | 1.0
+    0.5   | 1.0
+    1.0   | 1.5
+  }
+
+  def "keeps the level of a constant signal at normal speed"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    TimescalePcmAudioFilter filter = new TimescalePcmAudioFilter(2, SAMPLE_RATE, recorder, new TimescaleConfiguration())
+    float[] input = new float[SAMPLE_RATE]
+    Arrays.fill(input, 0.5f)
+
+    when:
+    feed(filter, input)
+    boolean steady = recorder.samples.subList(2000, 24000).every { Math.abs(it - 0.5f) < 0.001f }
+
+    then:
+    recorder.samples.size() > 24000
+    steady
+  }
+
+  def "pitch change keeps the duration and scales the frequency"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    TimescaleConfiguration configuration = new TimescaleConfiguration()
+    configuration.pitch = 2.0
+    TimescalePcmAudioFilter filter = new TimescalePcmAudioFilter(2, SAMPLE_RATE, recorder, configuration)
+
+    when:
+    feed(filter, sine(440, SAMPLE_RATE * 2))
+    filter.flush()
+    int length = recorder.samples.size()
+    int crossings = countCrossings(recorder.samples.subList(24000, 72000))
+
+    then:
+    Math.abs(length - SAMPLE_RATE * 2) < SAMPLE_RATE / 50
+    Math.abs(crossings - 880) < 20
+  }
+
+  def "seek discards the input waiting for the next frame"() {
+    given:
+    RecordingFilter recorder = new RecordingFilter()
+    TimescalePcmAudioFilter filter = new TimescalePcmAudioFilter(2, SAMPLE_RATE, recorder, new TimescaleConfiguration())
+
+    when:
+    feed(filter, sine(440, 10000))
+    int beforeSeek = recorder.samples.size()
+    filter.seekPerformed(5000, 5000)
+    filter.flush()
+
+    then:
+    recorder.samples.size() == beforeSeek
+  }
+
+  private static float[] sine(double frequency, int length) {
+    float[] samples = new float[length]
+
+    for (int i = 0; i < length; i++) {
+      samples[i] = (float) (0.5 * Math.sin(2 * Math.PI * frequency * i / SAMPLE_RATE))
+    }
+
+    return samples
+  }
+
+  private static void feed(TimescalePcmAudioFilter filter, float[] samples) {
+    float[][] input = [samples, samples]
+
+    for (int offset = 0; offset < samples.length; offset += 960) {
+      filter.process(input, offset, Math.min(960, samples.length - offset))
+    }
+  }
+
+  private static int countCrossings(List<Float> samples) {
+    int count = 0
+
+    for (int i = 1; i < samples.size(); i++) {
+      if (samples[i - 1] < 0 && samples[i] >= 0) {
+        count++
+      }
+    }
+
+    return count
+  }
+}
@@ -0,0 +1,49 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.filter.AudioPipeline
+import com.sedmelluq.discord.lavaplayer.filter.AudioPipelineFactory
+import com.sedmelluq.discord.lavaplayer.filter.PcmFormat
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import com.sedmelluq.discord.lavaplayer.track.BaseAudioTrack
+import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor
+
+/**
+ * Track which plays the same stereo 48 kHz sample value for its whole duration.
+ */
+class ConstantAudioTrack extends BaseAudioTrack {
+  private static final int CHUNK_FRAMES = 960
+
+  final short value
+
+  ConstantAudioTrack(String identifier, long duration, short value) {
+    super(new AudioTrackInfo(identifier, "test", duration, identifier, false, null))
+    this.value = value
+  }
+
+  @Override
+  void process(LocalAudioTrackExecutor executor) {
+    AudioPipeline pipeline = AudioPipelineFactory.create(executor.processingContext, new PcmFormat(2, 48000))
+    short[] chunk = new short[CHUNK_FRAMES * 2]
+    Arrays.fill(chunk, value)
+
+    try {
+      executor.executeProcessingLoop({
+        long chunkCount = trackInfo.length * 48 / CHUNK_FRAMES
+
+        for (long i = 0; i < chunkCount; i++) {
+          pipeline.process(chunk, 0, chunk.length)
+        }
+
+        pipeline.flush()
+      }, null)
+    } finally {
+      pipeline.close()
+    }
+  }
+
+  @Override
+  protected AudioTrack makeShallowClone() {
+    return new ConstantAudioTrack(trackInfo.identifier, trackInfo.length, value)
+  }
+}
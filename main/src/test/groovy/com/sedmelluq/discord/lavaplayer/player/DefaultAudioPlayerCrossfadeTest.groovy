@@ -0,0 +1,103 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.player.event.AudioEvent
+import com.sedmelluq.discord.lavaplayer.player.event.AudioEventListener
+import com.sedmelluq.discord.lavaplayer.player.event.TrackEndEvent
+import com.sedmelluq.discord.lavaplayer.player.event.TrackStartEvent
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackEndReason
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrame
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.nio.ByteBuffer
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+
+@Timeout(30)
+class DefaultAudioPlayerCrossfadeTest extends Specification {
+  DefaultAudioPlayerManager manager
+  AudioPlayer player
+  List<AudioEvent> events
+
+  def setup() {
+    manager = new DefaultAudioPlayerManager()
+    manager.configuration.outputFormat = StandardAudioDataFormats.DISCORD_PCM_S16_BE
+    player = manager.createPlayer()
+    events = new CopyOnWriteArrayList<>()
+    player.addListener({ event -> events.add(event) } as AudioEventListener)
+  }
+
+  def cleanup() {
+    player.destroy()
+    manager.shutdown()
+  }
+
+  def "crossfades into the next track when provided into a mutable frame"() {
+    given:
+    MutableAudioFrame frame = new MutableAudioFrame()
+    frame.setBuffer(ByteBuffer.allocate(StandardAudioDataFormats.DISCORD_PCM_S16_BE.maximumChunkSize()))
+    ConstantAudioTrack first = new ConstantAudioTrack("first", 2000, 1000 as short)
+    ConstantAudioTrack second = new ConstantAudioTrack("second", 2000, 3000 as short)
+
+    when:
+    List<Short> levels = playWithCrossfade(first, second) {
+      player.provide(frame, 5, TimeUnit.SECONDS) ? firstSample(frame.data) : null
+    }
+
+    then:
+    verifyCrossfade(levels, first, second)
+  }
+
+  def "crossfades into the next track when provided as frozen frames"() {
+    given:
+    ConstantAudioTrack first = new ConstantAudioTrack("first", 2000, 1000 as short)
+    ConstantAudioTrack second = new ConstantAudioTrack("second", 2000, 3000 as short)
+
+    when:
+    List<Short> levels = playWithCrossfade(first, second) {
+      AudioFrame frame = player.provide(5, TimeUnit.SECONDS)
+      frame != null ? firstSample(frame.data) : null
+    }
+
+    then:
+    verifyCrossfade(levels, first, second)
+  }
+
+  private List<Short> playWithCrossfade(AudioTrack first, AudioTrack second, Closure<Short> readLevel) {
+    player.crossfadeDuration = 1000
+    player.playTrack(first)
+    player.setNextTrack(second)
+
+    List<Short> levels = []
+
+    // Both tracks together are 200 frames long, the crossfade overlaps 50 of them
+    for (int i = 0; i < 250 && player.playingTrack != null; i++) {
+      Short level = readLevel()
+
+      if (level != null) {
+        levels.add(level)
+      }
+    }
+
+    return levels
+  }
+
+  private boolean verifyCrossfade(List<Short> levels, AudioTrack first, AudioTrack second) {
+    List<Short> mixedLevels = levels.findAll { it != 1000 as short && it != 3000 as short && it != 0 as short }
+
+    assert levels.contains(1000 as short)
+    assert levels.contains(3000 as short)
+    assert mixedLevels.size() >= 40
+    assert events.any { it instanceof TrackStartEvent && it.track == second }
+    assert events.any { it instanceof TrackEndEvent && it.track == first && it.endReason == AudioTrackEndReason.REPLACED }
+    assert events.any { it instanceof TrackEndEvent && it.track == second && it.endReason == AudioTrackEndReason.FINISHED }
+    return true
+  }
+
+  private static Short firstSample(byte[] data) {
+    return (short) ((data[0] << 8) | (data[1] & 0xFF))
+  }
+}
@@ -0,0 +1,82 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager
+import com.sedmelluq.discord.lavaplayer.track.AudioItem
+import com.sedmelluq.discord.lavaplayer.track.AudioReference
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Source manager which loads items with the given closures and encodes the details of its {@link StubAudioTrack}s.
+ */
+class StubAudioSourceManager implements AudioSourceManager {
+  final String name
+  final AtomicInteger loadCount = new AtomicInteger()
+
+  /** Called with the identifier to load an item */
+  Closure<AudioItem> loader = { String identifier -> null }
+  /** Called with the identifier to load an item page by page, may return null to load it with {@link #loader} */
+  Closure<AudioItem> incrementalLoader = { String identifier -> null }
+  /** Loads wait for this latch if it is set */
+  volatile CountDownLatch blocker
+  /** Whether encoding writes bytes which decoding does not read back */
+  boolean writesUnreadDetails
+
+  StubAudioSourceManager(String name) {
+    this.name = name
+  }
+
+  StubAudioTrack createTrack(AudioTrackInfo info, String details) {
+    return new StubAudioTrack(info, this, details)
+  }
+
+  @Override
+  String getSourceName() {
+    return name
+  }
+
+  @Override
+  AudioItem loadItem(AudioPlayerManager manager, AudioReference reference) {
+    loadCount.incrementAndGet()
+    blocker?.await()
+    return loader.call(reference.identifier)
+  }
+
+  @Override
+  AudioItem loadItemIncrementally(AudioPlayerManager manager, AudioReference reference) {
+    AudioItem item = incrementalLoader.call(reference.identifier)
+
+    if (item != null) {
+      loadCount.incrementAndGet()
+      return item
+    }
+
+    return loadItem(manager, reference)
+  }
+
+  @Override
+  boolean isTrackEncodable(AudioTrack track) {
+    return true
+  }
+
+  @Override
+  void encodeTrack(AudioTrack track, DataOutput output) {
+    output.writeUTF(((StubAudioTrack) track).details)
+
+    if (writesUnreadDetails) {
+      output.writeUTF("not read back")
+    }
+  }
+
+  @Override
+  AudioTrack decodeTrack(AudioTrackInfo trackInfo, DataInput input) {
+    return new StubAudioTrack(trackInfo, this, input.readUTF())
+  }
+
+  @Override
+  void shutdown() {
+  }
+}
@@ -0,0 +1,43 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.source.AudioSourceManager
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import com.sedmelluq.discord.lavaplayer.track.BaseAudioTrack
+import com.sedmelluq.discord.lavaplayer.track.playback.LocalAudioTrackExecutor
+
+/**
+ * Track which cannot be played, with optional source specific details for encoding tests.
+ */
+class StubAudioTrack extends BaseAudioTrack {
+  final AudioSourceManager sourceManager
+  final String details
+
+  StubAudioTrack(String identifier) {
+    this(new AudioTrackInfo("title", "author", 1000, identifier, false, identifier))
+  }
+
+  StubAudioTrack(AudioTrackInfo info) {
+    this(info, null, null)
+  }
+
+  StubAudioTrack(AudioTrackInfo info, AudioSourceManager sourceManager, String details) {
+    super(info)
+    this.sourceManager = sourceManager
+    this.details = details
+  }
+
+  @Override
+  AudioSourceManager getSourceManager() {
+    return sourceManager
+  }
+
+  @Override
+  void process(LocalAudioTrackExecutor executor) {
+  }
+
+  @Override
+  protected AudioTrack makeShallowClone() {
+    return new StubAudioTrack(trackInfo, sourceManager, details)
+  }
+}
@@ -0,0 +1,147 @@
+package com.sedmelluq.discord.lavaplayer.player
+
+import com.sedmelluq.discord.lavaplayer.tools.Units
+import com.sedmelluq.discord.lavaplayer.tools.io.MessageInput
+import com.sedmelluq.discord.lavaplayer.tools.io.MessageOutput
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import com.sedmelluq.discord.lavaplayer.track.DecodedTrackHolder
+import spock.lang.Specification
+
+class TrackEncodingTest extends Specification {
+  DefaultAudioPlayerManager manager
+  StubAudioSourceManager stub
+  StubAudioSourceManager other
+
+  def setup() {
+    manager = new DefaultAudioPlayerManager()
+    stub = new StubAudioSourceManager("stub")
+    other = new StubAudioSourceManager("other")
+    manager.registerSourceManager(stub)
+    manager.registerSourceManager(other)
+  }
+
+  def cleanup() {
+    manager.shutdown()
+  }
+
+  def "batch of tracks decodes to the same tracks"() {
+    given:
+    List<AudioTrack> tracks = [
+        stub.createTrack(new AudioTrackInfo("title", "author", 1000, "a", false, "https://example.com/a"), "first"),
+        stub.createTrack(new AudioTrackInfo("title", "author", Units.DURATION_MS_UNKNOWN, "b", true, null), "second"),
+        other.createTrack(new AudioTrackInfo("other title", "author", 0, "c", false, "https://example.org/c?x"), ""),
+        stub.createTrack(new AudioTrackInfo("title", null, 5000, null, false, "https://example.com/a"), "fourth")
+    ]
+    tracks[0].position = 300
+    tracks[3].position = 4000
+
+    when:
+    List<DecodedTrackHolder> decoded = roundTrip(manager) { it.encodeTracks(tracks) }
+
+    then:
+    decoded.size() == 4
+    (0..3).every { sameTrack(tracks[it], decoded[it].decodedTrack) }
+  }
+
+  def "tracks of sources which are not registered are skipped"() {
+    given:
+    DefaultAudioPlayerManager decoder = new DefaultAudioPlayerManager()
+    decoder.registerSourceManager(stub)
+
+    List<AudioTrack> tracks = [
+        other.createTrack(new AudioTrackInfo("title", "author", 1000, "a", false, null), "unknown"),
+        stub.createTrack(new AudioTrackInfo("title", "author", 2000, "b", false, null), "known")
+    ]
+
+    when:
+    List<DecodedTrackHolder> decoded = roundTrip(manager, decoder) { it.encodeTracks(tracks) }
+
+    then:
+    decoded.size() == 2
+    decoded[0].decodedTrack == null
+    sameTrack(tracks[1], decoded[1].decodedTrack)
+
+    cleanup:
+    decoder.shutdown()
+  }
+
+  def "source reading fewer details than it wrote does not affect the following tracks"() {
+    given:
+    StubAudioSourceManager sloppy = new StubAudioSourceManager("sloppy")
+    sloppy.writesUnreadDetails = true
+    manager.registerSourceManager(sloppy)
+
+    List<AudioTrack> tracks = [
+        sloppy.createTrack(new AudioTrackInfo("title", "author", 1000, "a", false, null), "details"),
+        stub.createTrack(new AudioTrackInfo("title", "author", 2000, "b", false, null), "known")
+    ]
+
+    when:
+    List<DecodedTrackHolder> decoded = roundTrip(manager) { it.encodeTracks(tracks) }
+
+    then:
+    sameTrack(tracks[0], decoded[0].decodedTrack)
+    sameTrack(tracks[1], decoded[1].decodedTrack)
+  }
+
+  def "single track message decodes as a batch of one"() {
+    given:
+    AudioTrack track = stub.createTrack(new AudioTrackInfo("title", "author", 1000, "a", false, "uri"), "legacy")
+    track.position = 500
+
+    when:
+    List<DecodedTrackHolder> decoded = roundTrip(manager) { it.encodeTrack(track) }
+
+    then:
+    decoded.size() == 1
+    sameTrack(track, decoded[0].decodedTrack)
+  }
+
+  private static List<DecodedTrackHolder> roundTrip(DefaultAudioPlayerManager manager,
+                                                    DefaultAudioPlayerManager decoder = manager,
+                                                    Closure encode) {
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+    MessageOutput output = new MessageOutput(bytes)
+    encode.call(new EncodeTarget(manager, output))
+    output.finish()
+
+    MessageInput input = new MessageInput(new ByteArrayInputStream(bytes.toByteArray()))
+    List<DecodedTrackHolder> decoded = decoder.decodeTracks(input)
+    assert decoder.decodeTracks(input) == null
+    return decoded
+  }
+
+  private static boolean sameTrack(AudioTrack expected, AudioTrack actual) {
+    assert actual != null
+    assert actual.info.title == expected.info.title
+    assert actual.info.author == expected.info.author
+    assert actual.info.length == expected.info.length
+    assert actual.info.identifier == expected.info.identifier
+    assert actual.info.isStream == expected.info.isStream
+    assert actual.info.uri == expected.info.uri
+    assert actual.position == expected.position
+    assert actual.sourceManager.is(expected.sourceManager)
+    assert ((StubAudioTrack) actual).details == ((StubAudioTrack) expected).details
+    return true
+  }
+
+  static class EncodeTarget {
+    final DefaultAudioPlayerManager manager
+    final MessageOutput output
+
+    EncodeTarget(DefaultAudioPlayerManager manager, MessageOutput output) {
+      this.manager = manager
+      this.output = output
+    }
+
+    void encodeTracks(List<AudioTrack> tracks) {
+      manager.encodeTracks(output, tracks)
+    }
+
+    void encodeTrack(AudioTrack track) {
+      manager.encodeTrack(output, track)
+    }
+  }
+}
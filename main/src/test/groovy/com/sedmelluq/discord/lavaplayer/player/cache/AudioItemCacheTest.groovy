@@ -0,0 +1,289 @@
+package com.sedmelluq.discord.lavaplayer.player.cache
+
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayerManager
+import com.sedmelluq.discord.lavaplayer.player.DefaultAudioPlayerManager
+import com.sedmelluq.discord.lavaplayer.player.FunctionalResultHandler
+import com.sedmelluq.discord.lavaplayer.player.IncrementalAudioLoadResultHandler
+import com.sedmelluq.discord.lavaplayer.player.StubAudioSourceManager
+import com.sedmelluq.discord.lavaplayer.player.StubAudioTrack
+import com.sedmelluq.discord.lavaplayer.tools.FriendlyException
+import com.sedmelluq.discord.lavaplayer.track.AudioItem
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist
+import com.sedmelluq.discord.lavaplayer.track.AudioReference
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist
+import com.sedmelluq.discord.lavaplayer.track.IncrementalAudioPlaylist
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+@Timeout(30)
+class AudioItemCacheTest extends Specification {
+  DefaultAudioPlayerManager manager
+  StubAudioSourceManager source
+  DefaultAudioItemCache cache
+
+  def setup() {
+    manager = new DefaultAudioPlayerManager()
+    source = new StubAudioSourceManager("stub")
+    source.loader = this.&loadStubItem
+    source.incrementalLoader = { String identifier ->
+      identifier.startsWith("pages:") ? new StubIncrementalPlaylist(identifier, firstPage(), 2) : null
+    }
+    cache = new DefaultAudioItemCache(2)
+    manager.registerSourceManager(source)
+    manager.setItemCache(cache)
+  }
+
+  def cleanup() {
+    manager.shutdown()
+  }
+
+  def "repeated load is served from cache as a clone"() {
+    when:
+    AudioTrack first = load(manager, "track:a") as AudioTrack
+    AudioTrack second = load(manager, " track:a ") as AudioTrack
+
+    then:
+    source.loadCount.get() == 1
+    !first.is(second)
+    second.identifier == "track:a"
+    cache.hitCount == 1
+    cache.missCount == 1
+  }
+
+  def "playlists are cloned with their selected track"() {
+    when:
+    load(manager, "playlist:a")
+    BasicAudioPlaylist playlist = load(manager, "playlist:a") as BasicAudioPlaylist
+
+    then:
+    source.loadCount.get() == 1
+    playlist.tracks.size() == 2
+    playlist.selectedTrack.is(playlist.tracks[1])
+  }
+
+  def "least recently used item is evicted when full"() {
+    when:
+    load(manager, "track:a")
+    load(manager, "track:b")
+    load(manager, "track:a")
+    load(manager, "track:c")
+    load(manager, "track:b")
+
+    then:
+    source.loadCount.get() == 4
+    cache.evictionCount == 2
+    cache.size == 2
+  }
+
+  def "items expire after the time to live of their source"() {
+    given:
+    cache.setSourceTimeToLive(StubAudioSourceManager, 50)
+
+    when:
+    load(manager, "track:a")
+    Thread.sleep(100)
+    load(manager, "track:a")
+
+    then:
+    source.loadCount.get() == 2
+  }
+
+  def "concurrent identical loads reach the source once"() {
+    given:
+    source.blocker = new CountDownLatch(1)
+    List<CompletableFuture<AudioItem>> results = (1..5).collect { loadAsync(manager, "track:a") }
+
+    when:
+    Thread.sleep(200)
+    source.blocker.countDown()
+    List<AudioItem> items = results.collect { it.get(10, TimeUnit.SECONDS) }
+
+    then:
+    source.loadCount.get() == 1
+    items.every { it instanceof AudioTrack }
+    items.toSet().size() == 5
+  }
+
+  def "no matches are not cached"() {
+    when:
+    load(manager, "missing:a")
+    load(manager, "missing:a")
+
+    then:
+    source.loadCount.get() == 2
+    cache.size == 0
+  }
+
+  def "failures are not cached"() {
+    when:
+    Throwable first = loadFailure(manager, "fail:a")
+    Throwable second = loadFailure(manager, "fail:a")
+
+    then:
+    first instanceof FriendlyException
+    second instanceof FriendlyException
+    source.loadCount.get() == 2
+    cache.size == 0
+  }
+
+  def "playlists loaded page by page are cached once complete"() {
+    given:
+    PageRecordingHandler handler = new PageRecordingHandler()
+
+    when:
+    manager.loadItem("pages:a", handler)
+    AudioPlaylist loaded = handler.completed.get(10, TimeUnit.SECONDS)
+    AudioPlaylist cached = load(manager, "pages:a") as AudioPlaylist
+
+    then:
+    handler.firstPageSize == 2
+    handler.pageCount == 2
+    loaded.tracks.size() == 6
+    cached.tracks.size() == 6
+    !cached.tracks[5].is(loaded.tracks[5])
+    source.loadCount.get() == 1
+  }
+
+  def "handlers which do not load page by page get the complete playlist"() {
+    when:
+    AudioPlaylist playlist = load(manager, "pages:a") as AudioPlaylist
+
+    then:
+    playlist.tracks.size() == 6
+    !(playlist instanceof IncrementalAudioPlaylist)
+  }
+
+  private static AudioItem loadStubItem(String identifier) {
+    if (identifier.startsWith("track:")) {
+      return new StubAudioTrack(identifier)
+    } else if (identifier.startsWith("playlist:")) {
+      List<AudioTrack> tracks = firstPage()
+      return new BasicAudioPlaylist(identifier, tracks, tracks[1], false)
+    } else if (identifier.startsWith("pages:")) {
+      List<AudioTrack> tracks = (1..6).collect { new StubAudioTrack("track:" + it) as AudioTrack }
+      return new BasicAudioPlaylist(identifier, tracks, null, false)
+    } else if (identifier.startsWith("fail:")) {
+      throw new FriendlyException("Stub failure", FriendlyException.Severity.COMMON, null)
+    } else {
+      return AudioReference.NO_TRACK
+    }
+  }
+
+  private static List<AudioTrack> firstPage() {
+    return [new StubAudioTrack("track:1"), new StubAudioTrack("track:2")]
+  }
+
+  private static AudioItem load(AudioPlayerManager manager, String identifier) {
+    return loadAsync(manager, identifier).get(10, TimeUnit.SECONDS)
+  }
+
+  private static Throwable loadFailure(AudioPlayerManager manager, String identifier) {
+    try {
+      load(manager, identifier)
+      return null
+    } catch (ExecutionException e) {
+      return e.cause
+    }
+  }
+
+  private static CompletableFuture<AudioItem> loadAsync(AudioPlayerManager manager, String identifier) {
+    CompletableFuture<AudioItem> result = new CompletableFuture<>()
+
+    manager.loadItem(identifier, new FunctionalResultHandler(
+        { result.complete(it) },
+        { result.complete(it) },
+        { result.complete(null) },
+        { result.completeExceptionally(it) }
+    ))
+
+    return result
+  }
+
+  static class StubIncrementalPlaylist implements IncrementalAudioPlaylist {
+    final String name
+    final List<AudioTrack> tracks
+    int remainingPages
+
+    StubIncrementalPlaylist(String name, List<AudioTrack> tracks, int remainingPages) {
+      this.name = name
+      this.tracks = new CopyOnWriteArrayList<>(tracks)
+      this.remainingPages = remainingPages
+    }
+
+    @Override
+    AudioTrack getSelectedTrack() {
+      return null
+    }
+
+    @Override
+    boolean isSearchResult() {
+      return false
+    }
+
+    @Override
+    synchronized boolean isComplete() {
+      return remainingPages == 0
+    }
+
+    @Override
+    synchronized List<AudioTrack> loadNextPage() {
+      if (isComplete()) {
+        return []
+      }
+
+      int first = tracks.size() + 1
+      List<AudioTrack> page = [new StubAudioTrack("track:" + first), new StubAudioTrack("track:" + (first + 1))]
+      tracks.addAll(page)
+      remainingPages--
+      return page
+    }
+
+    @Override
+    synchronized IncrementalAudioPlaylist makeClone() {
+      return new StubIncrementalPlaylist(name, tracks.collect { it.makeClone() }, remainingPages)
+    }
+  }
+
+  static class PageRecordingHandler implements IncrementalAudioLoadResultHandler {
+    final CompletableFuture<AudioPlaylist> completed = new CompletableFuture<>()
+    volatile int firstPageSize = -1
+    volatile int pageCount
+
+    @Override
+    void trackLoaded(AudioTrack track) {
+      completed.completeExceptionally(new IllegalStateException("Expected a playlist"))
+    }
+
+    @Override
+    void playlistLoaded(AudioPlaylist playlist) {
+      firstPageSize = playlist.tracks.size()
+    }
+
+    @Override
+    void playlistTracksLoaded(AudioPlaylist playlist, List<AudioTrack> tracks) {
+      pageCount++
+    }
+
+    @Override
+    void playlistCompleted(AudioPlaylist playlist) {
+      completed.complete(playlist)
+    }
+
+    @Override
+    void noMatches() {
+      completed.completeExceptionally(new IllegalStateException("Expected a playlist"))
+    }
+
+    @Override
+    void loadFailed(FriendlyException exception) {
+      completed.completeExceptionally(exception)
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.sedmelluq.discord.lavaplayer.player.mixer
+
+import com.sedmelluq.discord.lavaplayer.format.StandardAudioDataFormats
+import com.sedmelluq.discord.lavaplayer.player.AudioPlayer
+import com.sedmelluq.discord.lavaplayer.player.ConstantAudioTrack
+import com.sedmelluq.discord.lavaplayer.player.DefaultAudioPlayerManager
+import com.sedmelluq.discord.lavaplayer.track.playback.AllocatingAudioFrameBuffer
+import com.sedmelluq.discord.lavaplayer.track.playback.AudioFrameBufferFactory
+import com.sedmelluq.discord.lavaplayer.track.playback.MutableAudioFrame
+import com.sedmelluq.discord.lavaplayer.track.playback.NonAllocatingAudioFrameBuffer
+import spock.lang.Specification
+import spock.lang.Timeout
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.util.concurrent.TimeUnit
+
+@Timeout(30)
+class AudioMixerTest extends Specification {
+  DefaultAudioPlayerManager manager
+
+  def setup() {
+    manager = new DefaultAudioPlayerManager()
+    manager.configuration.outputFormat = StandardAudioDataFormats.DISCORD_PCM_S16_BE
+  }
+
+  def cleanup() {
+    manager.shutdown()
+  }
+
+  @Unroll
+  def "mixes the frames of two playing players with #bufferName"() {
+    given:
+    manager.configuration.frameBufferFactory = bufferFactory
+    AudioPlayer first = manager.createPlayer()
+    AudioPlayer second = manager.createPlayer()
+    first.playTrack(new ConstantAudioTrack("first", 5000, 1000 as short))
+    second.playTrack(new ConstantAudioTrack("second", 5000, 3000 as short))
+
+    AudioMixer mixer = new AudioMixer(manager.configuration)
+    mixer.addInput(first)
+    mixer.addInput(second)
+
+    MutableAudioFrame frame = new MutableAudioFrame()
+    frame.setBuffer(ByteBuffer.allocate(StandardAudioDataFormats.DISCORD_PCM_S16_BE.maximumChunkSize()))
+
+    when:
+    Set<Short> levels = new HashSet<>()
+
+    50.times {
+      if (mixer.provide(frame, 5, TimeUnit.SECONDS)) {
+        byte[] data = frame.data
+        levels.add((short) ((data[0] << 8) | (data[1] & 0xFF)))
+      }
+    }
+
+    then:
+    levels.contains(4000 as short)
+    !levels.contains(0 as short)
+
+    cleanup:
+    mixer.close()
+    first.destroy()
+    second.destroy()
+
+    where:
+    bufferName                    | bufferFactory
+    "non-allocating frame buffer" | { duration, format, stopping -> new NonAllocatingAudioFrameBuffer(duration, format, stopping) } as AudioFrameBufferFactory
+    "allocating frame buffer"     | { duration, format, stopping -> new AllocatingAudioFrameBuffer(duration, format, stopping) } as AudioFrameBufferFactory
+  }
+}
@@ -0,0 +1,84 @@
+package com.sedmelluq.discord.lavaplayer.source
+
+import com.sedmelluq.discord.lavaplayer.player.StubAudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioItem
+import com.sedmelluq.discord.lavaplayer.track.AudioPlaylist
+import com.sedmelluq.discord.lavaplayer.track.AudioReference
+import com.sedmelluq.discord.lavaplayer.track.AudioTrack
+import com.sedmelluq.discord.lavaplayer.track.AudioTrackInfo
+import com.sedmelluq.discord.lavaplayer.track.BasicAudioPlaylist
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Function
+import java.util.function.Supplier
+
+class SearchResultCacheTest extends Specification {
+  AtomicInteger searchCount = new AtomicInteger()
+  Function<AudioTrackInfo, AudioTrack> trackFactory = { info -> new StubAudioTrack(info) } as Function
+
+  def "cached results keep the playlist name given by the caller"() {
+    given:
+    SearchResultCache cache = new SearchResultCache(10, 60000)
+
+    when:
+    AudioPlaylist first = cache.search("ytmsearch", "Some Song", "Search music results for: Some Song",
+        trackFactory, results("Search music results for: Some Song", 3)) as AudioPlaylist
+    AudioPlaylist second = cache.search("ytmsearch", "  some   song ", "Search music results for:   some   song ",
+        trackFactory, results("unused", 1)) as AudioPlaylist
+
+    then:
+    searchCount.get() == 1
+    first.name == "Search music results for: Some Song"
+    second.name == "Search music results for:   some   song "
+    second.tracks*.identifier == ["0", "1", "2"]
+    second.searchResult
+    cache.hitCount == 1
+    cache.missCount == 1
+  }
+
+  def "searches with no matches are cached"() {
+    given:
+    SearchResultCache cache = new SearchResultCache(10, 60000)
+    Supplier<AudioItem> noMatches = { searchCount.incrementAndGet(); AudioReference.NO_TRACK } as Supplier
+
+    when:
+    AudioItem first = cache.search("ytsearch", "nothing", "Search results for: nothing", trackFactory, noMatches)
+    AudioItem second = cache.search("ytsearch", "nothing", "Search results for: nothing", trackFactory, noMatches)
+
+    then:
+    first == AudioReference.NO_TRACK
+    second == AudioReference.NO_TRACK
+    searchCount.get() == 1
+  }
+
+  def "snapshot restores the results into another cache"() {
+    given:
+    SearchResultCache cache = new SearchResultCache(10, 60000)
+    SearchResultCache restored = new SearchResultCache(10, 60000)
+    cache.search("ytsearch", "song", "Search results for: song", trackFactory, results("Search results for: song", 2))
+
+    when:
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+    cache.exportSnapshot(new DataOutputStream(bytes) as DataOutput)
+    restored.importSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())) as DataInput)
+    AudioPlaylist playlist = restored.search("ytsearch", "Song", "Search results for: Song", trackFactory,
+        results("unused", 1)) as AudioPlaylist
+
+    then:
+    searchCount.get() == 1
+    playlist.tracks*.identifier == ["0", "1"]
+    playlist.tracks[1].info.uri == "https://example.com/1"
+  }
+
+  private Supplier<AudioItem> results(String name, int count) {
+    return {
+      searchCount.incrementAndGet()
+      List<AudioTrack> tracks = (0..<count).collect {
+        new StubAudioTrack(new AudioTrackInfo("title " + it, "author", 1000, String.valueOf(it), false,
+            "https://example.com/" + it)) as AudioTrack
+      }
+      new BasicAudioPlaylist(name, tracks, null, true)
+    } as Supplier
+  }
+}